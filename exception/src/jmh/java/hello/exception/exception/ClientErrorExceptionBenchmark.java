@@ -0,0 +1,90 @@
+package hello.exception.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 오류 예외 throw/catch 비용 비교
+ * - legacy: 기존 UserException 처럼 RuntimeException 을 그대로 상속 (매번 fillInStackTrace)
+ * - stackless: ClientErrorException 기반 UserException (스택 트레이스 없음)
+ * - cached: 상수 메시지 캐시 인스턴스 재사용
+ * - depth: 예외가 던져지는 지점의 호출 스택 깊이 (스프링 MVC 요청 처리 스택은 100 프레임 이상)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientErrorExceptionBenchmark {
+
+    @Param({"10", "100"})
+    int depth;
+
+    @Setup
+    public void setUp() {
+        ClientErrorException.setStackTraceEnabled(false);
+    }
+
+    @Benchmark
+    public String legacy() {
+        try {
+            throwAt(depth, Kind.LEGACY);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String stackless() {
+        try {
+            throwAt(depth, Kind.STACKLESS);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String cached() {
+        try {
+            throwAt(depth, Kind.CACHED);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private static void throwAt(int depth, Kind kind) {
+        if (depth > 0) {
+            throwAt(depth - 1, kind);
+            return;
+        }
+        switch (kind) {
+            case LEGACY -> throw new LegacyUserException("사용자 오류");
+            case STACKLESS -> throw new UserException("사용자 오류");
+            case CACHED -> throw UserException.cached("사용자 오류");
+        }
+    }
+
+    enum Kind {
+        LEGACY, STACKLESS, CACHED
+    }
+
+    //변경 전 UserException 과 같은 형태
+    static class LegacyUserException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        LegacyUserException(String message) {
+            super(message);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package hello.exception.render;
+
+import hello.exception.ExceptionApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 한 건의 왕복 시간 비교
+ * - dispatch: sendError / 예외 전파 후 WAS 가 /error 로 ERROR 디스패치 (필터, 인터셉터, DispatcherServlet 을 한 번 더 탄다)
+ * - direct: DirectErrorFilter 가 원래 요청 안에서 바로 렌더링
+ * - sendErrorJson: 리졸버가 sendError(400) 하는 경로, exceptionJson/exceptionHtml: 컨트롤러 예외가 WAS 까지 전파되는 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ErrorRenderingBenchmark {
+
+    @Param({"dispatch", "direct"})
+    String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(ExceptionApplication.class,
+                "--server.port=0",
+                "--exception.error-rendering=" + mode,
+                "--logging.level.root=off");
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int sendErrorJson() throws Exception {
+        return get("/api/members/bad", "application/json");
+    }
+
+    @Benchmark
+    public int exceptionJson() throws Exception {
+        return get("/error-ex", "application/json");
+    }
+
+    @Benchmark
+    public int exceptionHtml() throws Exception {
+        return get("/error-ex", "text/html");
+    }
+
+    private int get(String path, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", accept)
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return response.body().length + response.statusCode();
+    }
+
+}
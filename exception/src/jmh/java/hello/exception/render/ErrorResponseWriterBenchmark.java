@@ -0,0 +1,62 @@
+package hello.exception.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.exception.exception.UserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 JSON 쓰기 비용 비교
+ * - mapToString: 기존 UserHandlerExceptionResolver 방식 (HashMap -> writeValueAsString -> Writer)
+ * - streaming: ErrorResponseWriter (캐시된 인코딩 결과를 JsonGenerator 로 OutputStream 에 바로 쓰기)
+ * - negotiate: Accept 헤더 파싱 캐시 조회
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseWriterBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+    private final UserException ex = UserException.cached("사용자 오류");
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+    @Benchmark
+    public int mapToString() throws IOException {
+        out.reset();
+        Map<String, Object> errorResult = new HashMap<>();
+        errorResult.put("ex", ex.getClass());
+        errorResult.put("message", ex.getMessage());
+        String result = objectMapper.writeValueAsString(errorResult);
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(result);
+        writer.flush();
+        return out.size();
+    }
+
+    @Benchmark
+    public int streaming() throws IOException {
+        out.reset();
+        errorResponseWriter.writeException(out, ex);
+        return out.size();
+    }
+
+    @Benchmark
+    public boolean negotiate() {
+        return AcceptHeaders.prefersJson("application/json, text/plain, */*");
+    }
+
+}
@@ -2,10 +2,16 @@ package hello.exception;
 
 import hello.exception.filter.LogFilter;
 import hello.exception.interceptor.LogInterceptor;
+import hello.exception.monitor.ErrorMetrics;
+import hello.exception.monitor.ErrorMetricsInterceptor;
+import hello.exception.monitor.MeteredHandlerExceptionResolver;
+import hello.exception.render.ErrorResponseWriter;
+import hello.exception.resolver.ExceptionResolverDispatcher;
 import hello.exception.resolver.MyHandlerExceptionResolver;
 import hello.exception.resolver.UserHandlerExceptionResolver;
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,23 +19,46 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorMetrics errorMetrics;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new LogInterceptor())
                 .order(1)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/css/**", "/*.ico", "/error", "/error-page/**"); //오류 페이지 경로
+
+        registry.addInterceptor(new ErrorMetricsInterceptor(errorMetrics))
+                .order(2)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/css/**", "/*.ico", "/error", "/error-page/**", "/monitor/**");
     }
 
     @Override
     public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
-        resolvers.add(new MyHandlerExceptionResolver());
-        resolvers.add(new UserHandlerExceptionResolver());
+        resolvers.add(exceptionResolverDispatcher()::resolveException);
+
+        //기본 리졸버(@ExceptionHandler, @ResponseStatus ...)까지 포함한 체인 전체를 하나로 감싸서 오류 지표를 기록한다
+        List<HandlerExceptionResolver> chain = new ArrayList<>(resolvers);
+        resolvers.clear();
+        resolvers.add(new MeteredHandlerExceptionResolver(chain, errorMetrics));
+    }
+
+    //직접 만든 리졸버는 예외 클래스별 디스패치 테이블로 한 번에 찾는다
+    //(HandlerExceptionResolver 타입 빈으로 등록하면 DispatcherServlet 이 체인 밖에서 한 번 더 호출하므로 체인에는 메서드 참조로 넣는다)
+    @Bean
+    public ExceptionResolverDispatcher exceptionResolverDispatcher() {
+        return new ExceptionResolverDispatcher(List.of(
+                new MyHandlerExceptionResolver(),
+                new UserHandlerExceptionResolver(errorResponseWriter)));
     }
 
     //@Bean
@@ -1,5 +1,6 @@
 package hello.exception.api;
 
+import hello.exception.breaker.CircuitBreaker;
 import hello.exception.exception.BadRequestException;
 import hello.exception.exception.UserException;
 import lombok.AllArgsConstructor;
@@ -25,15 +26,22 @@ public class ApiExceptionController {
             throw new IllegalArgumentException("잘못된 입력 값");
         }
         if (id.equals("user-ex")) {
-            throw new UserException("사용자 오류");
+            throw UserException.cached("사용자 오류");
         }
         return new MemberDto(id, "hello " + id);
     }
 
+    //서킷 브레이커 예제 (exception.circuit-breaker.enabled=true), getMember 와 같지만 여기만 열고 닫힌다
+    @CircuitBreaker
+    @GetMapping("/api/circuit-breaker/members/{id}")
+    public MemberDto getMemberWithCircuitBreaker(@PathVariable("id") String id) {
+        return getMember(id);
+    }
+
     //@ResponseStatus 사용
     @GetMapping("/api/response-status-ex1")
     public String responseStatusEx1() {
-        throw new BadRequestException();
+        throw BadRequestException.instance();
     }
 
     //ResponseStatusException 사용
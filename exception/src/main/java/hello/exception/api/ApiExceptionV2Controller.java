@@ -2,17 +2,22 @@ package hello.exception.api;
 
 import hello.exception.exception.UserException;
 import hello.exception.exhandler.ErrorResult;
+import hello.exception.exhandler.ExceptionLogger;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
+@RequiredArgsConstructor
 @RestController
 public class ApiExceptionV2Controller {
 
+    private final ExceptionLogger exceptionLogger;
+
     /**
      * @ExceptionHandler
      * - 스프링은 API 예외 처리 문제를 해결하기 위해 해당 어노테이션을 제공한다
@@ -26,7 +31,7 @@ public class ApiExceptionV2Controller {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(IllegalArgumentException.class)
     public ErrorResult illegalHandler(IllegalArgumentException e){
-        log.error("[exceptionHandler] ex", e);
+        exceptionLogger.error(log, "[exceptionHandler] ex", e);
         return new ErrorResult("BAD", e.getMessage());
     }
 
@@ -38,7 +43,7 @@ public class ApiExceptionV2Controller {
      */
     @ExceptionHandler //예외 생략
     public ResponseEntity<ErrorResult> userHandler(UserException e){
-        log.error("[exceptionHandler] ex", e);
+        exceptionLogger.error(log, "[exceptionHandler] ex", e);
         ErrorResult errorResult = new ErrorResult("USER-EX", e.getMessage());
         return new ResponseEntity(errorResult, HttpStatus.BAD_REQUEST);
     }
@@ -46,7 +51,7 @@ public class ApiExceptionV2Controller {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler
     public ErrorResult exHandler(Exception e){
-        log.error("[exceptionHandler] ex", e);
+        exceptionLogger.error(log, "[exceptionHandler] ex", e);
         return new ErrorResult("EX", "내부 오류");
     }
 
@@ -59,7 +64,7 @@ public class ApiExceptionV2Controller {
             throw new IllegalArgumentException("잘못된 입력 값");
         }
         if (id.equals("user-ex")) {
-            throw new UserException("사용자 오류");
+            throw UserException.cached("사용자 오류");
         }
         return new MemberDto(id, "hello " + id);
     }
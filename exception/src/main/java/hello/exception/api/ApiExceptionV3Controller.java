@@ -21,7 +21,7 @@ public class ApiExceptionV3Controller {
             throw new IllegalArgumentException("잘못된 입력 값");
         }
         if (id.equals("user-ex")) {
-            throw new UserException("사용자 오류");
+            throw UserException.cached("사용자 오류");
         }
         return new MemberDto(id, "hello " + id);
     }
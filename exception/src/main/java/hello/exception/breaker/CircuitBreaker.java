@@ -0,0 +1,30 @@
+package hello.exception.breaker;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드 단위 서킷 브레이커 (붙인 핸들러만 적용)
+ * - windowSeconds 동안 호출이 minimumCalls 이상이고 실패(예외, 5xx) 비율이 failureRateThreshold 이상이면 열린다
+ * - 열려 있는 openMillis 동안은 핸들러를 실행하지 않고 미리 만들어 둔 503 응답을 바로 돌려준다
+ * - 그 뒤 halfOpenCalls 개의 시험 호출을 보내서 모두 성공하면 닫고, 하나라도 실패하면 다시 연다
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CircuitBreaker {
+
+    double failureRateThreshold() default 0.5;
+
+    int minimumCalls() default 20;
+
+    int windowSeconds() default 10;
+
+    long openMillis() default 5000;
+
+    int halfOpenCalls() default 3;
+
+}
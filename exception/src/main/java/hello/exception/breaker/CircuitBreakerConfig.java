@@ -0,0 +1,30 @@
+package hello.exception.breaker;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * exception.circuit-breaker.enabled=true 이면 @CircuitBreaker 를 붙인 핸들러에 서킷 브레이커를 적용하고 /monitor/circuit-breakers 로 상태를 보여준다
+ */
+@Configuration
+@ConditionalOnProperty(name = "exception.circuit-breaker.enabled", havingValue = "true")
+public class CircuitBreakerConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        //열려 있을 때 다른 인터셉터(로그, 지표)보다 먼저 끊는다
+        registry.addInterceptor(new CircuitBreakerInterceptor(circuitBreakerRegistry()))
+                .order(0)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/css/**", "/*.ico", "/error", "/error-page/**", "/monitor/**");
+    }
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        return new CircuitBreakerRegistry();
+    }
+
+}
@@ -0,0 +1,25 @@
+package hello.exception.breaker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 핸들러별 서킷 브레이커 상태 (상태, 최근 window 호출/실패 수, 거절 수, 열린 횟수)
+ */
+@RestController
+@ConditionalOnProperty(name = "exception.circuit-breaker.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CircuitBreakerController {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @GetMapping("/monitor/circuit-breakers")
+    public List<HandlerCircuitBreaker.Snapshot> circuitBreakers() {
+        return circuitBreakerRegistry.getSnapshots();
+    }
+
+}
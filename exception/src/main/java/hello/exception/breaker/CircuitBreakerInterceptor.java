@@ -0,0 +1,64 @@
+package hello.exception.breaker;
+
+import hello.exception.trace.RequestTimeline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 브레이커가 열려 있으면 핸들러를 실행하지 않고 미리 인코딩한 503 응답을 바로 쓴다
+ * - 예외를 만들지 않으므로 리졸버 체인, sendError, ERROR 디스패치를 모두 건너뛴다
+ * - 통과한 요청은 afterCompletion 에서 결과를 기록한다 (처리되지 않은 예외 또는 5xx 면 실패)
+ */
+@RequiredArgsConstructor
+public class CircuitBreakerInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT = CircuitBreakerInterceptor.class.getName() + ".PERMIT";
+    private static final String BREAKER = CircuitBreakerInterceptor.class.getName() + ".BREAKER";
+
+    private static final byte[] OPEN_BODY =
+            "{\"code\":\"CIRCUIT-OPEN\",\"message\":\"일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final CircuitBreakerRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        HandlerCircuitBreaker breaker = registry.find(handler);
+        if (breaker == null) {
+            return true;
+        }
+        HandlerCircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (!permit.isRejected()) {
+            request.setAttribute(BREAKER, breaker);
+            request.setAttribute(PERMIT, permit);
+            return true;
+        }
+
+        RequestTimeline.mark(request, "breaker.rejected");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(breaker.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("utf-8");
+        response.setContentLength(OPEN_BODY.length);
+        response.getOutputStream().write(OPEN_BODY);
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(BREAKER) instanceof HandlerCircuitBreaker breaker)) {
+            return;
+        }
+        HandlerCircuitBreaker.Permit permit = (HandlerCircuitBreaker.Permit) request.getAttribute(PERMIT);
+        breaker.record(permit, ex == null && response.getStatus() < 500);
+    }
+
+}
@@ -0,0 +1,50 @@
+package hello.exception.breaker;
+
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @CircuitBreaker 를 붙인 핸들러 메서드별 브레이커
+ * - HandlerMethod 는 요청마다 새로 만들어지므로 Method 기준으로 찾고, 애노테이션이 없는 핸들러도 빈 값으로 캐시한다
+ */
+public class CircuitBreakerRegistry {
+
+    private final Map<Method, Optional<HandlerCircuitBreaker>> breakers = new ConcurrentHashMap<>();
+
+    public HandlerCircuitBreaker find(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        Optional<HandlerCircuitBreaker> breaker = breakers.get(handlerMethod.getMethod());
+        if (breaker == null) {
+            breaker = breakers.computeIfAbsent(handlerMethod.getMethod(), method -> create(handlerMethod));
+        }
+        return breaker.orElse(null);
+    }
+
+    private Optional<HandlerCircuitBreaker> create(HandlerMethod handlerMethod) {
+        CircuitBreaker config = handlerMethod.getMethodAnnotation(CircuitBreaker.class);
+        if (config == null) {
+            return Optional.empty();
+        }
+        String name = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        return Optional.of(new HandlerCircuitBreaker(name, config));
+    }
+
+    public List<HandlerCircuitBreaker.Snapshot> getSnapshots() {
+        List<HandlerCircuitBreaker.Snapshot> snapshots = new ArrayList<>();
+        for (Optional<HandlerCircuitBreaker> breaker : breakers.values()) {
+            breaker.ifPresent(b -> snapshots.add(b.snapshot()));
+        }
+        snapshots.sort(Comparator.comparing(HandlerCircuitBreaker.Snapshot::handler));
+        return snapshots;
+    }
+
+}
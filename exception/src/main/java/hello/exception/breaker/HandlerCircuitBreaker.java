@@ -0,0 +1,217 @@
+package hello.exception.breaker;
+
+import hello.exception.monitor.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핸들러 하나의 서킷 브레이커 상태 (락 없음)
+ * - 상태, 세대(generation), 열린 시각을 불변 Phase 하나로 묶어 AtomicReference CAS 로 바꾸므로 한 스레드만 전이에 성공한다
+ * - HALF_OPEN 으로 넘어갈 때마다 세대가 올라간다. 시험 호출 허가와 성공 수는 세대와 함께 한 long 에 담겨,
+ *   이전 HALF_OPEN 에서 받은 허가의 결과가 늦게 도착해도 다음 시험에 섞이지 않는다
+ * - 실패 비율은 초 단위 버킷(SlidingWindowCounter)으로 세고, 실패가 기록될 때만 다시 계산한다
+ * - 닫힐 때는 window 를 새로 만들어 열리기 전의 실패가 다시 세어지지 않게 한다
+ */
+@Slf4j
+public class HandlerCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 요청이 어떤 상태에서 통과했는지 (결과를 기록할 때 사용). 시험 호출은 허가받은 HALF_OPEN 의 세대를 가진다
+     */
+    public record Permit(Type type, long generation) {
+
+        public enum Type {
+            CLOSED, TRIAL, REJECTED
+        }
+
+        public static final Permit CLOSED = new Permit(Type.CLOSED, 0);
+        public static final Permit REJECTED = new Permit(Type.REJECTED, 0);
+
+        static Permit trial(long generation) {
+            return new Permit(Type.TRIAL, generation);
+        }
+
+        public boolean isRejected() {
+            return type == Type.REJECTED;
+        }
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final int windowSeconds;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(State.CLOSED, 0, 0));
+    //(세대 << 32) | 남은 시험 호출 허가 수
+    private final AtomicLong trialPermits = new AtomicLong();
+    //(세대 << 32) | 시험 호출 성공 수
+    private final AtomicLong trialSuccesses = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+    private volatile Window window;
+
+    public HandlerCircuitBreaker(String name, CircuitBreaker config) {
+        this.name = name;
+        this.failureRateThreshold = config.failureRateThreshold();
+        this.minimumCalls = config.minimumCalls();
+        this.windowSeconds = config.windowSeconds();
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.openMillis());
+        this.halfOpenCalls = config.halfOpenCalls();
+        this.window = new Window(windowSeconds);
+    }
+
+    public Permit tryAcquire() {
+        Phase current = phase.get();
+        if (current.state() == State.CLOSED) {
+            return Permit.CLOSED;
+        }
+        if (current.state() == State.OPEN) {
+            if (System.nanoTime() - current.openedAt() < openNanos) {
+                rejected.increment();
+                return Permit.REJECTED;
+            }
+            //열린 시간이 지나면 CAS 에 성공한 한 스레드만 새 세대의 시험 호출 수를 채운다 (그 사이 들어온 요청은 거절)
+            Phase halfOpen = new Phase(State.HALF_OPEN, current.generation() + 1, current.openedAt());
+            if (phase.compareAndSet(current, halfOpen)) {
+                trialSuccesses.set(pack(halfOpen.generation(), 0));
+                trialPermits.set(pack(halfOpen.generation(), halfOpenCalls));
+                log.info("[circuitBreaker] {} OPEN -> HALF_OPEN", name);
+            }
+            current = phase.get();
+            if (current.state() != State.HALF_OPEN) {
+                rejected.increment();
+                return Permit.REJECTED;
+            }
+        }
+        //허가 수를 0 아래로 내리지 않는다. 세대가 다르면(아직 채워지기 전) 거절
+        long permits;
+        do {
+            permits = trialPermits.get();
+            if (generationOf(permits) != current.generation() || countOf(permits) <= 0) {
+                rejected.increment();
+                return Permit.REJECTED;
+            }
+        } while (!trialPermits.compareAndSet(permits, permits - 1));
+        return Permit.trial(current.generation());
+    }
+
+    public void record(Permit permit, boolean success) {
+        if (permit.type() == Permit.Type.TRIAL) {
+            recordTrial(permit.generation(), success);
+            return;
+        }
+        if (permit.type() != Permit.Type.CLOSED) {
+            return;
+        }
+        Window current = window;
+        current.calls.increment();
+        if (success) {
+            return;
+        }
+        current.failures.increment();
+        long calls = current.calls.sum(windowSeconds);
+        if (calls >= minimumCalls && (double) current.failures.sum(windowSeconds) / calls >= failureRateThreshold) {
+            open(State.CLOSED, -1);
+        }
+    }
+
+    //지난 세대의 시험 결과는 무시한다
+    private void recordTrial(long generation, boolean success) {
+        if (!success) {
+            open(State.HALF_OPEN, generation);
+            return;
+        }
+        long successes;
+        int count;
+        do {
+            successes = trialSuccesses.get();
+            if (generationOf(successes) != generation) {
+                return;
+            }
+            count = countOf(successes) + 1;
+        } while (!trialSuccesses.compareAndSet(successes, pack(generation, count)));
+
+        if (count < halfOpenCalls) {
+            return;
+        }
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN && current.generation() == generation
+                && phase.compareAndSet(current, new Phase(State.CLOSED, generation, current.openedAt()))) {
+            window = new Window(windowSeconds);
+            log.info("[circuitBreaker] {} HALF_OPEN -> CLOSED", name);
+        }
+    }
+
+    //generation 이 음수면 세대와 상관없이 from 상태에서 연다
+    private void open(State from, long generation) {
+        Phase current = phase.get();
+        if (current.state() != from || (generation >= 0 && current.generation() != generation)) {
+            return;
+        }
+        if (phase.compareAndSet(current, new Phase(State.OPEN, current.generation(), System.nanoTime()))) {
+            opened.increment();
+            log.warn("[circuitBreaker] {} {} -> OPEN", name, from);
+        }
+    }
+
+    private static long pack(long generation, int count) {
+        return (generation << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    private static long generationOf(long packed) {
+        return packed >>> 32;
+    }
+
+    private static int countOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * 다시 시험 호출을 보낼 때까지 남은 시간 (초, 올림)
+     */
+    public long retryAfterSeconds() {
+        long remaining = openNanos - (System.nanoTime() - phase.get().openedAt());
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    public Snapshot snapshot() {
+        Window current = window;
+        long calls = current.calls.sum(windowSeconds);
+        long failures = current.failures.sum(windowSeconds);
+        return new Snapshot(name, phase.get().state(), calls, failures,
+                calls == 0 ? 0.0 : (double) failures / calls, failureRateThreshold,
+                rejected.sum(), opened.sum());
+    }
+
+    public State getState() {
+        return phase.get().state();
+    }
+
+    public record Snapshot(String handler, State state, long calls, long failures, double failureRate,
+                           double failureRateThreshold, long rejected, long opened) {
+    }
+
+    private record Phase(State state, long generation, long openedAt) {
+    }
+
+    private static final class Window {
+        private final SlidingWindowCounter calls;
+        private final SlidingWindowCounter failures;
+
+        private Window(int seconds) {
+            this.calls = new SlidingWindowCounter(seconds);
+            this.failures = new SlidingWindowCounter(seconds);
+        }
+    }
+
+}
@@ -12,8 +12,23 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  */
 //@ResponseStatus(code = HttpStatus.BAD_REQUEST, reason = "잘못된 요청 오류")
 @ResponseStatus(code = HttpStatus.BAD_REQUEST, reason = "error.bad")
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends ClientErrorException {
 
+    private static final long serialVersionUID = 1L;
 
+    //메시지가 없는 예외이므로 스택 트레이스가 꺼져 있으면 하나의 인스턴스를 재사용한다
+    private static final BadRequestException INSTANCE = new BadRequestException(null, null, false, false);
+
+    public BadRequestException() {
+        super();
+    }
+
+    protected BadRequestException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    public static BadRequestException instance() {
+        return isStackTraceEnabled() ? new BadRequestException() : INSTANCE;
+    }
 
 }
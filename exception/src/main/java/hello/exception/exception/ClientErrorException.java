@@ -0,0 +1,43 @@
+package hello.exception.exception;
+
+/**
+ * 잘못된 요청처럼 예상된 클라이언트 오류를 나타내는 예외의 부모 클래스
+ * - 정상적인 제어 흐름으로 자주 던져지므로 기본적으로 스택 트레이스를 만들지 않는다 (fillInStackTrace 비용 제거)
+ * - 디버깅할 때는 exception.client-error.stack-trace=true 로 다시 켤 수 있다
+ */
+public class ClientErrorException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    //JVM 전체에 하나인 설정 (ClientErrorExceptionSettings 가 exception.client-error.stack-trace 로 설정)
+    private static volatile boolean stackTraceEnabled = false;
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    public ClientErrorException() {
+        super(null, null, true, stackTraceEnabled);
+    }
+
+    public ClientErrorException(String message) {
+        super(message, null, true, stackTraceEnabled);
+    }
+
+    public ClientErrorException(String message, Throwable cause) {
+        super(message, cause, true, stackTraceEnabled);
+    }
+
+    public ClientErrorException(Throwable cause) {
+        super(cause == null ? null : cause.toString(), cause, true, stackTraceEnabled);
+    }
+
+    protected ClientErrorException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+}
@@ -0,0 +1,30 @@
+package hello.exception.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * exception.client-error.stack-trace 설정을 ClientErrorException 에 반영한다
+ * - 예외는 어디서나 new 로 만들어지므로 빈이 아니라 ClientErrorException 의 static 값에 쓴다 (JVM 전체에 적용)
+ * - 같은 JVM 에 컨텍스트가 여러 개면(테스트 등) 나중에 뜬 컨텍스트의 설정이 적용되고, 컨텍스트가 닫힐 때 이전 값으로 되돌린다
+ */
+@Slf4j
+@Component
+public class ClientErrorExceptionSettings implements DisposableBean {
+
+    private final boolean previous;
+
+    public ClientErrorExceptionSettings(@Value("${exception.client-error.stack-trace:false}") boolean stackTraceEnabled) {
+        this.previous = ClientErrorException.isStackTraceEnabled();
+        ClientErrorException.setStackTraceEnabled(stackTraceEnabled);
+        log.info("client error stack trace enabled = {}", stackTraceEnabled);
+    }
+
+    @Override
+    public void destroy() {
+        ClientErrorException.setStackTraceEnabled(previous);
+    }
+
+}
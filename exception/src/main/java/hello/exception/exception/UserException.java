@@ -1,6 +1,15 @@
 package hello.exception.exception;
 
-public class UserException extends RuntimeException {
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class UserException extends ClientErrorException {
+
+    private static final long serialVersionUID = 1L;
+
+    //상수 메시지용 캐시 (동적인 메시지가 섞여도 무한히 커지지 않도록 제한)
+    private static final int CACHE_LIMIT = 256;
+    private static final Map<String, UserException> CACHE = new ConcurrentHashMap<>();
 
     public UserException() {
         super();
@@ -21,4 +30,26 @@ public class UserException extends RuntimeException {
     protected UserException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
     }
+
+    /**
+     * 상수 메시지 예외는 미리 만들어 둔 인스턴스를 재사용한다
+     * - 공유 인스턴스이므로 스택 트레이스와 suppressed 예외를 기록하지 않는다
+     * - 스택 트레이스를 켠 경우에는 매번 새로 만든다
+     */
+    public static UserException cached(String message) {
+        if (isStackTraceEnabled()) {
+            return new UserException(message);
+        }
+        UserException cached = CACHE.get(message);
+        if (cached != null) {
+            return cached;
+        }
+        UserException created = new UserException(message, null, false, false);
+        if (CACHE.size() >= CACHE_LIMIT) {
+            return created;
+        }
+        UserException previous = CACHE.putIfAbsent(message, created);
+        return previous != null ? previous : created;
+    }
+
 }
@@ -0,0 +1,149 @@
+package hello.exception.exhandler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 처리한 예외를 지문(fingerprint)별로 묶어서 제한된 양만 로그로 남긴다
+ * - 지문: 예외 타입 + 스택 상위 프레임 (스택 트레이스가 없는 ClientErrorException 은 타입만)
+ * - window 동안 지문마다 처음 traces-per-window 개만 스택 트레이스를 남기고, 나머지는 개수만 센다
+ * - window 가 끝날 때마다 발생한 지문별로 요약 한 줄(발생 수, 생략 수, 누적 수)을 남긴다
+ */
+@Slf4j
+@Component
+public class ExceptionLogger {
+
+    private static final int FINGERPRINT_LIMIT = 1024;
+    private static final Fingerprint OVERFLOW = new Fingerprint(Throwable.class, List.of());
+
+    private final int tracesPerWindow;
+    private final int frames;
+    private final Map<Fingerprint, Stats> stats = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public ExceptionLogger(@Value("${exception.logging.traces-per-window:5}") int tracesPerWindow,
+                           @Value("${exception.logging.window:1m}") Duration window,
+                           @Value("${exception.logging.frames:3}") int frames) {
+        this.tracesPerWindow = tracesPerWindow;
+        this.frames = frames;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "exception-log-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = window.toMillis();
+        scheduler.scheduleAtFixedRate(this::summarize, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 호출한 쪽의 logger 로 남긴다 (로그 카테고리는 그대로 유지)
+     */
+    public void error(Logger logger, String message, Throwable e) {
+        Stats stat = statsFor(e);
+        stat.count.increment();
+        if (stat.logged.incrementAndGet() <= tracesPerWindow) {
+            logger.error(message, e);
+        } else {
+            stat.suppressed.increment();
+        }
+    }
+
+    private Stats statsFor(Throwable e) {
+        Fingerprint fingerprint = fingerprint(e);
+        Stats stat = stats.get(fingerprint);
+        if (stat != null) {
+            return stat;
+        }
+        //지문 종류가 한도를 넘으면 하나로 모은다
+        if (stats.size() >= FINGERPRINT_LIMIT) {
+            fingerprint = OVERFLOW;
+        }
+        return stats.computeIfAbsent(fingerprint, Stats::new);
+    }
+
+    //리플렉션 프레임은 JVM 이 호출 방식을 바꾸면(NativeMethodAccessor -> GeneratedMethodAccessor) 달라지므로 건너뛴다
+    private Fingerprint fingerprint(Throwable e) {
+        StackTraceElement[] stackTrace = e.getStackTrace();
+        List<StackTraceElement> top = new ArrayList<>(frames);
+        for (int i = 0; i < stackTrace.length && top.size() < frames; i++) {
+            if (!isReflection(stackTrace[i].getClassName())) {
+                top.add(stackTrace[i]);
+            }
+        }
+        return new Fingerprint(e.getClass(), top);
+    }
+
+    private boolean isReflection(String className) {
+        return className.startsWith("jdk.internal.reflect.")
+                || className.startsWith("java.lang.reflect.")
+                || className.startsWith("sun.reflect.");
+    }
+
+    void summarize() {
+        for (Stats stat : stats.values()) {
+            long count = stat.count.sumThenReset();
+            long suppressed = stat.suppressed.sumThenReset();
+            stat.logged.set(0);
+            if (count == 0) {
+                continue;
+            }
+            stat.total.add(count);
+            log.warn("[exceptionSummary] {} count={} suppressed={} total={}",
+                    stat.fingerprint, count, suppressed, stat.total.sum());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+        summarize();
+    }
+
+    private record Fingerprint(Class<?> type, List<StackTraceElement> frames) {
+
+        @Override
+        public String toString() {
+            if (this == OVERFLOW) {
+                return "(other fingerprints)";
+            }
+            if (frames.isEmpty()) {
+                return type.getName();
+            }
+            StringBuilder sb = new StringBuilder(type.getName());
+            for (StackTraceElement frame : frames) {
+                sb.append(" <- ").append(frame.getClassName()).append('.').append(frame.getMethodName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class Stats {
+
+        private final Fingerprint fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicInteger logged = new AtomicInteger();
+
+        private Stats(Fingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package hello.exception.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 오류 경로 JFR 이벤트 도우미
+ * - 이벤트가 꺼져 있으면(기록 중이 아니거나 설정에서 disabled) isEnabled() 검사 하나로 끝난다
+ */
+public final class ErrorEvents {
+
+    private static final String HANDLER_EVENT = HandlerExceptionEvent.class.getName();
+
+    private ErrorEvents() {
+    }
+
+    /**
+     * 핸들러 실행 시작 (HandlerExceptionEvent 시간 측정 시작)
+     */
+    public static void handlerStarted(HttpServletRequest request) {
+        HandlerExceptionEvent event = new HandlerExceptionEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(HANDLER_EVENT, event);
+        }
+    }
+
+    /**
+     * 예외가 리졸버 체인에 도착 (시간 측정 종료, 기록은 상태 코드가 정해진 뒤 handlerResolved 에서)
+     */
+    public static HandlerExceptionEvent handlerFailed(HttpServletRequest request) {
+        if (request.getAttribute(HANDLER_EVENT) instanceof HandlerExceptionEvent event) {
+            request.removeAttribute(HANDLER_EVENT);
+            event.end();
+            return event;
+        }
+        return null;
+    }
+
+    public static void handlerResolved(HandlerExceptionEvent event, Object handler, Exception ex, int status) {
+        if (event != null && event.shouldCommit()) {
+            event.exceptionClass = ex.getClass();
+            event.handler = handlerName(handler);
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    public static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return handler == null ? null : handler.getClass().getSimpleName();
+    }
+
+}
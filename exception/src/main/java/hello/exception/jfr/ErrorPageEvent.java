@@ -0,0 +1,32 @@
+package hello.exception.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("hello.exception.ErrorPage")
+@Label("Error Page Dispatched")
+@Description("오류 페이지 응답 (WAS 의 ERROR 디스패치 또는 exception.error-rendering=direct 의 직접 렌더링)")
+@Category({"Spring MVC", "Exception"})
+@StackTrace(false)
+public class ErrorPageEvent extends Event {
+
+    @Label("Error Page Path")
+    public String path;
+
+    @Label("Request URI")
+    public String requestUri;
+
+    @Label("Exception Class")
+    public Class<?> exceptionClass;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Direct")
+    public boolean direct;
+
+}
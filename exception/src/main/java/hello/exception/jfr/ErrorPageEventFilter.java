@@ -0,0 +1,37 @@
+package hello.exception.jfr;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * WAS 의 ERROR 디스패치(오류 페이지 요청)를 ErrorPageEvent 로 기록한다
+ */
+public class ErrorPageEventFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        ErrorPageEvent event = new ErrorPageEvent();
+        event.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = ((HttpServletRequest) request).getRequestURI();
+                event.requestUri = (String) request.getAttribute(RequestDispatcher.ERROR_REQUEST_URI);
+                event.exceptionClass = (Class<?>) request.getAttribute(RequestDispatcher.ERROR_EXCEPTION_TYPE);
+                event.status = ((HttpServletResponse) response).getStatus();
+                event.commit();
+            }
+        }
+    }
+
+}
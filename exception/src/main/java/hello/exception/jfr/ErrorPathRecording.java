@@ -0,0 +1,70 @@
+package hello.exception.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상시 JFR 기록 (exception.jfr.recording.enabled=true)
+ * - JDK default 설정(오버헤드 1% 내외)에 jfr/exception.jfc 의 오류 경로 이벤트를 더해서 기록한다
+ * - max-age / max-size 만큼만 디스크에 보관하고, 종료할 때 destination 으로 덤프한다 (실행 중에는 jcmd <pid> JFR.dump)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exception.jfr.recording.enabled", havingValue = "true")
+public class ErrorPathRecording {
+
+    private static final String SETTINGS = "jfr/exception.jfc";
+
+    private final Recording recording;
+
+    public ErrorPathRecording(@Value("${exception.jfr.recording.max-age:30m}") Duration maxAge,
+                              @Value("${exception.jfr.recording.max-size:100MB}") DataSize maxSize,
+                              @Value("${exception.jfr.recording.destination:exception-errors.jfr}") Path destination) throws IOException, ParseException {
+
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(new ClassPathResource(SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+
+        Path parent = destination.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        recording = new Recording(settings);
+        recording.setName("exception-errors");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        log.info("JFR recording started name={} maxAge={} maxSize={} destination={}", recording.getName(), maxAge, maxSize, destination);
+    }
+
+    @PreDestroy
+    public void close() {
+        //stop 하면 destination 에 기록된다
+        recording.stop();
+        recording.close();
+    }
+
+}
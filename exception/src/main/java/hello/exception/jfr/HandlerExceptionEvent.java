@@ -0,0 +1,26 @@
+package hello.exception.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("hello.exception.HandlerException")
+@Label("Exception Thrown In Handler")
+@Description("핸들러에서 예외가 던져짐 (duration: 핸들러 시작부터 예외가 리졸버 체인에 도착할 때까지)")
+@Category({"Spring MVC", "Exception"})
+@StackTrace(false)
+public class HandlerExceptionEvent extends Event {
+
+    @Label("Exception Class")
+    public Class<?> exceptionClass;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Resolved Status")
+    public int status;
+
+}
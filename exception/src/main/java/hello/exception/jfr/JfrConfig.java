@@ -0,0 +1,54 @@
+package hello.exception.jfr;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+/**
+ * 오류 경로 JFR 이벤트 등록
+ * - 이벤트는 JFR 기록이 없으면 비용이 거의 없으므로 항상 등록하고, 무엇을 남길지는 JFR 설정(jfr/exception.jfc)으로 정한다
+ */
+@Configuration
+public class JfrConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                ErrorEvents.handlerStarted(request);
+                return true;
+            }
+        }).order(Ordered.LOWEST_PRECEDENCE).addPathPatterns("/**");
+    }
+
+    @Bean
+    public WebMvcRegistrations jfrWebMvcRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public ExceptionHandlerExceptionResolver getExceptionHandlerExceptionResolver() {
+                return new JfrExceptionHandlerExceptionResolver();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ErrorPageEventFilter> errorPageEventFilter() {
+        FilterRegistrationBean<ErrorPageEventFilter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(new ErrorPageEventFilter());
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        filterRegistrationBean.addUrlPatterns("/*");
+        filterRegistrationBean.setDispatcherTypes(DispatcherType.ERROR);
+        return filterRegistrationBean;
+    }
+
+}
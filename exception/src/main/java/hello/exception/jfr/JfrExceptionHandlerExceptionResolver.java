@@ -0,0 +1,38 @@
+package hello.exception.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * @ExceptionHandler 메서드(ExControllerAdvice, ApiExceptionV2Controller ...) 실행을 ResolverInvokedEvent 로 기록한다
+ */
+public class JfrExceptionHandlerExceptionResolver extends ExceptionHandlerExceptionResolver {
+
+    @Override
+    protected ModelAndView doResolveHandlerMethodException(HttpServletRequest request, HttpServletResponse response,
+                                                           HandlerMethod handlerMethod, Exception exception) {
+        ResolverInvokedEvent event = new ResolverInvokedEvent();
+        event.begin();
+        ModelAndView mav = super.doResolveHandlerMethodException(request, response, handlerMethod, exception);
+        event.end();
+        if (event.shouldCommit()) {
+            //기록할 때만 어떤 @ExceptionHandler 가 선택됐는지 다시 찾는다 (ExceptionHandlerMethodResolver 캐시 조회)
+            //처리할 @ExceptionHandler 가 없으면 실행된 것이 없으므로 남기지 않는다
+            ServletInvocableHandlerMethod exceptionHandler = getExceptionHandlerMethod(handlerMethod, exception);
+            if (exceptionHandler != null) {
+                event.resolver = ErrorEvents.handlerName(exceptionHandler);
+                event.exceptionClass = exception.getClass();
+                event.handler = ErrorEvents.handlerName(handlerMethod);
+                event.status = response.getStatus();
+                event.resolved = mav != null;
+                event.commit();
+            }
+        }
+        return mav;
+    }
+
+}
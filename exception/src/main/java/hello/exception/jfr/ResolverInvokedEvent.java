@@ -0,0 +1,32 @@
+package hello.exception.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("hello.exception.ResolverInvoked")
+@Label("Exception Resolver Invoked")
+@Description("예외 리졸버(HandlerExceptionResolver, @ExceptionHandler 메서드) 한 번의 실행")
+@Category({"Spring MVC", "Exception"})
+@StackTrace(false)
+public class ResolverInvokedEvent extends Event {
+
+    @Label("Resolver")
+    public String resolver;
+
+    @Label("Exception Class")
+    public Class<?> exceptionClass;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Resolved")
+    public boolean resolved;
+
+}
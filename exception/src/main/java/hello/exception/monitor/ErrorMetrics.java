@@ -0,0 +1,129 @@
+package hello.exception.monitor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (핸들러, 예외 타입, 최종 상태 코드)별 오류 지표와 핸들러별 오류 예산
+ * - 카운터는 모두 LongAdder / CAS 기반이라 오류가 몰려도 요청 스레드끼리 락을 잡지 않는다
+ * - 리졸버 체인에서 예외를 처리하는 데 걸린 시간(@ExceptionHandler 실행, 응답 쓰기 포함)의 평균/최대를 함께 기록한다
+ * - 오류 예산: 최근 1분 동안 핸들러별 5xx 비율이 exception.metrics.error-budget 을 얼마나 썼는지
+ */
+@Component
+public class ErrorMetrics {
+
+    private static final int WINDOW_SECONDS = 60;
+    private static final String NO_HANDLER = "(none)";
+
+    private final double errorBudget;
+    private final Map<Key, Series> series = new ConcurrentHashMap<>();
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+    private final Map<Method, String> handlerNames = new ConcurrentHashMap<>();
+
+    public ErrorMetrics(@Value("${exception.metrics.error-budget:0.01}") double errorBudget) {
+        this.errorBudget = errorBudget;
+    }
+
+    public void recordRequest(Object handler) {
+        budget(handlerName(handler)).requests.increment();
+    }
+
+    public void recordError(Object handler, Exception ex, int status, long elapsedNanos) {
+        String handlerName = handlerName(handler);
+        Key key = new Key(handlerName, ex.getClass().getName(), status);
+        Series s = series.get(key);
+        if (s == null) {
+            s = series.computeIfAbsent(key, k -> new Series());
+        }
+        s.count.increment();
+        s.window.increment();
+        s.totalNanos.add(elapsedNanos);
+        s.maxNanos.accumulate(elapsedNanos);
+
+        if (status >= 500) {
+            budget(handlerName).serverErrors.increment();
+        }
+    }
+
+    public List<ErrorStat> getErrors() {
+        List<ErrorStat> result = new ArrayList<>(series.size());
+        series.forEach((key, s) -> {
+            long count = s.count.sum();
+            long totalNanos = s.totalNanos.sum();
+            result.add(new ErrorStat(key.handler(), key.exception(), key.status(), count,
+                    s.window.rate(10), s.window.rate(WINDOW_SECONDS),
+                    count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos / count),
+                    TimeUnit.NANOSECONDS.toMicros(s.maxNanos.get())));
+        });
+        result.sort(Comparator.comparingLong(ErrorStat::count).reversed());
+        return result;
+    }
+
+    public List<BudgetStat> getBudgets() {
+        List<BudgetStat> result = new ArrayList<>(budgets.size());
+        budgets.forEach((handler, budget) -> {
+            long requests = budget.requests.sum(WINDOW_SECONDS);
+            long errors = budget.serverErrors.sum(WINDOW_SECONDS);
+            double errorRatio = requests == 0 ? 0.0 : (double) errors / requests;
+            result.add(new BudgetStat(handler, requests, errors, errorRatio, 1.0 - errorRatio / errorBudget));
+        });
+        result.sort(Comparator.comparingDouble(BudgetStat::budgetRemaining));
+        return result;
+    }
+
+    public double getErrorBudget() {
+        return errorBudget;
+    }
+
+    private Budget budget(String handlerName) {
+        Budget budget = budgets.get(handlerName);
+        if (budget == null) {
+            budget = budgets.computeIfAbsent(handlerName, k -> new Budget());
+        }
+        return budget;
+    }
+
+    //HandlerMethod 는 요청마다 새로 만들어지므로 Method 기준으로 이름을 캐시한다
+    private String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerNames.computeIfAbsent(handlerMethod.getMethod(),
+                    method -> handlerMethod.getBeanType().getSimpleName() + "#" + method.getName());
+        }
+        return handler == null ? NO_HANDLER : handler.getClass().getSimpleName();
+    }
+
+    public record ErrorStat(String handler, String exception, int status, long count,
+                            double rate10s, double rate1m, long avgResolveMicros, long maxResolveMicros) {
+    }
+
+    public record BudgetStat(String handler, long requests1m, long serverErrors1m,
+                             double errorRatio, double budgetRemaining) {
+    }
+
+    private record Key(String handler, String exception, int status) {
+    }
+
+    private static final class Series {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final SlidingWindowCounter window = new SlidingWindowCounter(WINDOW_SECONDS);
+    }
+
+    private static final class Budget {
+        private final SlidingWindowCounter requests = new SlidingWindowCounter(WINDOW_SECONDS);
+        private final SlidingWindowCounter serverErrors = new SlidingWindowCounter(WINDOW_SECONDS);
+    }
+
+}
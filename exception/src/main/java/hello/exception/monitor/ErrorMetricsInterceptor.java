@@ -0,0 +1,22 @@
+package hello.exception.monitor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 오류 예산 계산을 위해 핸들러별 요청 수를 센다
+ */
+@RequiredArgsConstructor
+public class ErrorMetricsInterceptor implements HandlerInterceptor {
+
+    private final ErrorMetrics errorMetrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        errorMetrics.recordRequest(handler);
+        return true;
+    }
+
+}
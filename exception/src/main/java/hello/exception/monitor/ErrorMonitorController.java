@@ -0,0 +1,43 @@
+package hello.exception.monitor;
+
+import hello.exception.resolver.ExceptionResolverDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 오류 처리 경로 상태 조회
+ */
+@RestController
+@RequiredArgsConstructor
+public class ErrorMonitorController {
+
+    private final ExceptionResolverDispatcher exceptionResolverDispatcher;
+    private final ErrorMetrics errorMetrics;
+
+    @GetMapping("/monitor/resolver-cache")
+    public Map<String, Object> resolverCache() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hits", exceptionResolverDispatcher.getHits());
+        result.put("misses", exceptionResolverDispatcher.getMisses());
+        result.put("hitRate", exceptionResolverDispatcher.getHitRate());
+        result.put("exceptionTypes", exceptionResolverDispatcher.getCachedExceptionTypes());
+        return result;
+    }
+
+    /**
+     * (핸들러, 예외, 상태)별 오류 수, 최근 10초/1분 초당 발생 수, 처리 시간과 핸들러별 오류 예산
+     */
+    @GetMapping("/monitor/errors")
+    public Map<String, Object> errors() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("errors", errorMetrics.getErrors());
+        result.put("errorBudget", errorMetrics.getErrorBudget());
+        result.put("budgets", errorMetrics.getBudgets());
+        return result;
+    }
+
+}
@@ -0,0 +1,49 @@
+package hello.exception.monitor;
+
+import hello.exception.jfr.ErrorEvents;
+import hello.exception.jfr.HandlerExceptionEvent;
+import hello.exception.trace.RequestTimeline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.List;
+
+/**
+ * 리졸버 체인 전체를 감싸서 예외 처리 결과를 ErrorMetrics 에 기록한다
+ * - 처리한 리졸버가 없으면 예외가 WAS 까지 전파되므로 500 으로 기록한다
+ */
+public class MeteredHandlerExceptionResolver implements HandlerExceptionResolver {
+
+    private final List<HandlerExceptionResolver> resolvers;
+    private final ErrorMetrics errorMetrics;
+
+    public MeteredHandlerExceptionResolver(List<HandlerExceptionResolver> resolvers, ErrorMetrics errorMetrics) {
+        this.resolvers = List.copyOf(resolvers);
+        this.errorMetrics = errorMetrics;
+    }
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long start = System.nanoTime();
+        RequestTimeline.mark(request, "resolve.start");
+        HandlerExceptionEvent handlerEvent = ErrorEvents.handlerFailed(request);
+        ModelAndView mav = null;
+        try {
+            for (HandlerExceptionResolver resolver : resolvers) {
+                mav = resolver.resolveException(request, response, handler, ex);
+                if (mav != null) {
+                    return mav;
+                }
+            }
+            return null;
+        } finally {
+            int status = mav != null ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            errorMetrics.recordError(handler, ex, status, System.nanoTime() - start);
+            RequestTimeline.mark(request, "resolve.end");
+            ErrorEvents.handlerResolved(handlerEvent, handler, ex, status);
+        }
+    }
+
+}
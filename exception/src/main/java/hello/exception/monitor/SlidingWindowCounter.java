@@ -0,0 +1,57 @@
+package hello.exception.monitor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N 초 동안의 발생 수를 세는 초 단위 버킷 링 (락 없음)
+ * - 버킷이 다음 바퀴로 넘어갈 때 epoch 를 CAS 로 바꾼 스레드가 카운트를 0 으로 되돌린다
+ * - 경계에서 동시에 들어온 증가 몇 개가 사라질 수 있지만 비율 지표로는 충분하다
+ */
+public class SlidingWindowCounter {
+
+    private final int seconds;
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray counts;
+
+    public SlidingWindowCounter(int seconds) {
+        this.seconds = seconds;
+        this.epochs = new AtomicLongArray(seconds);
+        this.counts = new AtomicLongArray(seconds);
+    }
+
+    public void increment() {
+        long now = currentSecond();
+        int index = (int) (now % seconds);
+        long epoch = epochs.get(index);
+        if (epoch != now && epochs.compareAndSet(index, epoch, now)) {
+            counts.set(index, 0);
+        }
+        counts.incrementAndGet(index);
+    }
+
+    /**
+     * 최근 lastSeconds 초 동안의 합 (lastSeconds 는 window 크기 이하)
+     */
+    public long sum(int lastSeconds) {
+        long now = currentSecond();
+        long sum = 0;
+        for (int i = 0; i < seconds; i++) {
+            if (now - epochs.get(i) < lastSeconds) {
+                sum += counts.get(i);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 최근 lastSeconds 초 동안의 초당 발생 수
+     */
+    public double rate(int lastSeconds) {
+        return (double) sum(lastSeconds) / lastSeconds;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+}
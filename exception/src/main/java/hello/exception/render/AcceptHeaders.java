@@ -0,0 +1,87 @@
+package hello.exception.render;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오류 응답용 Accept 헤더 협상 결과 캐시
+ * - 클라이언트가 보내는 Accept 값은 종류가 몇 개 안 되므로 헤더 문자열별로 한 번만 파싱한다
+ * - 헤더가 없거나 잘못된 경우 JSON 도 HTML 도 명시하지 않은 것으로 본다
+ */
+public final class AcceptHeaders {
+
+    private static final int CACHE_LIMIT = 256;
+    private static final Negotiation NONE = new Negotiation(false, false);
+
+    private static final Map<String, Negotiation> cache = new ConcurrentHashMap<>();
+
+    private AcceptHeaders() {
+    }
+
+    /**
+     * JSON 을 HTML 보다 우선해서 받겠다고 명시했는지 (application/json, application/*+json)
+     */
+    public static boolean prefersJson(String accept) {
+        return negotiate(accept).json();
+    }
+
+    /**
+     * text/html 을 명시했는지 (BasicErrorController 와 같은 기준, 와일드카드 타입은 제외)
+     */
+    public static boolean acceptsHtml(String accept) {
+        return negotiate(accept).html();
+    }
+
+    private static Negotiation negotiate(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return NONE;
+        }
+        Negotiation negotiation = cache.get(accept);
+        if (negotiation != null) {
+            return negotiation;
+        }
+        negotiation = parse(accept);
+        //임의의 헤더 값으로 캐시가 계속 커지지 않도록 한도까지만 저장
+        if (cache.size() < CACHE_LIMIT) {
+            cache.putIfAbsent(accept, negotiation);
+        }
+        return negotiation;
+    }
+
+    private static Negotiation parse(String accept) {
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return NONE;
+        }
+
+        double jsonQuality = 0;
+        double htmlQuality = 0;
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isWildcardType()) {
+                continue;
+            }
+            double quality = mediaType.getQualityValue();
+            if (isJson(mediaType)) {
+                jsonQuality = Math.max(jsonQuality, quality);
+            } else if (mediaType.isCompatibleWith(MediaType.TEXT_HTML)) {
+                htmlQuality = Math.max(htmlQuality, quality);
+            }
+        }
+        return new Negotiation(jsonQuality > 0 && jsonQuality >= htmlQuality, htmlQuality > 0);
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return (!mediaType.isWildcardSubtype() && MediaType.APPLICATION_JSON.isCompatibleWith(mediaType))
+                || "json".equals(mediaType.getSubtypeSuffix());
+    }
+
+    private record Negotiation(boolean json, boolean html) {
+    }
+
+}
@@ -0,0 +1,261 @@
+package hello.exception.render;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.template.TemplateAvailabilityProviders;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.autoconfigure.web.servlet.error.ErrorViewResolver;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오류 페이지를 한 번만 렌더링해서 바이트 배열(원본, gzip)로 캐시하고 그대로 응답하는 ErrorViewResolver
+ * - 찾는 순서는 DefaultErrorViewResolver 와 같다: templates/error/{status} -> static/error/{status}.html -> templates/error/{4xx,5xx} -> static/error/{4xx,5xx}.html
+ * - 어떤 페이지를 쓸지는 상태 코드별로 한 번만 결정한다
+ * - 정적 파일과 Thymeleaf 표현식(${...}, *{...}, #{...}, @{...}, ~{...}, 인라인, th: 속성)이 하나도 없는 템플릿만 캐시한다
+ *   템플릿은 (상태 코드, 로케일)별 첫 요청에서 실제 ThymeleafView 로 렌더링한 결과를 그대로 저장하므로 캐시하지 않을 때와 같은 바이트가 나간다
+ * - 표현식이 있는 템플릿(예: error/500.html)은 지금처럼 요청마다 렌더링한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exception.error-page-cache.enabled", havingValue = "true")
+public class CachedErrorViewResolver implements ErrorViewResolver, Ordered {
+
+    private static final int PAGE_CACHE_LIMIT = 64;
+    private static final String CONTENT_TYPE = MediaType.TEXT_HTML_VALUE + ";charset=UTF-8";
+
+    private static final Pattern THYMELEAF_NAMESPACE = Pattern.compile("\\s+xmlns:th\\s*=\\s*\"[^\"]*\"");
+    private static final Pattern THYMELEAF_PROCESSING = Pattern.compile("[$*#@~]\\{|\\[\\[|\\[\\(|\\bth:|\\bdata-th-");
+
+    private final ApplicationContext applicationContext;
+    private final String[] staticLocations;
+    private final TemplateAvailabilityProviders templateAvailabilityProviders;
+    private final ThymeleafProperties thymeleafProperties;
+    private final ThymeleafViewResolver thymeleafViewResolver;
+
+    private final Map<Integer, Page> pages = new ConcurrentHashMap<>();
+    private final Map<PageKey, CachedPageView> rendered = new ConcurrentHashMap<>();
+
+    public CachedErrorViewResolver(ApplicationContext applicationContext, WebProperties webProperties,
+                                   ThymeleafProperties thymeleafProperties, ThymeleafViewResolver thymeleafViewResolver) {
+        this.applicationContext = applicationContext;
+        this.staticLocations = webProperties.getResources().getStaticLocations();
+        this.templateAvailabilityProviders = new TemplateAvailabilityProviders(applicationContext);
+        this.thymeleafProperties = thymeleafProperties;
+        this.thymeleafViewResolver = thymeleafViewResolver;
+    }
+
+    @Override
+    public ModelAndView resolveErrorView(HttpServletRequest request, HttpStatus status, Map<String, Object> model) {
+        Page page = pages.computeIfAbsent(status.value(), code -> find(status));
+        return switch (page.kind()) {
+            case NONE -> null;
+            case DYNAMIC_TEMPLATE -> new ModelAndView(page.viewName(), model);
+            case STATIC_TEMPLATE -> new ModelAndView(templateView(page, status.value(), RequestContextUtils.getLocale(request)), model);
+            case STATIC_RESOURCE -> new ModelAndView(resourceView(page, status.value()), model);
+        };
+    }
+
+    private Page find(HttpStatus status) {
+        Page page = find(String.valueOf(status.value()));
+        if (page.kind() == Kind.NONE && (status.is4xxClientError() || status.is5xxServerError())) {
+            page = find(status.is4xxClientError() ? "4xx" : "5xx");
+        }
+        log.info("error page status={} -> {} {}", status.value(), page.kind(), page.viewName());
+        return page;
+    }
+
+    private Page find(String viewName) {
+        String errorViewName = "error/" + viewName;
+        if (templateAvailabilityProviders.getProvider(errorViewName, applicationContext) != null) {
+            Kind kind = isProcessed(errorViewName) ? Kind.DYNAMIC_TEMPLATE : Kind.STATIC_TEMPLATE;
+            return new Page(kind, errorViewName, null);
+        }
+        for (String location : staticLocations) {
+            try {
+                Resource resource = applicationContext.getResource(location).createRelative(errorViewName + ".html");
+                if (resource.exists()) {
+                    return new Page(Kind.STATIC_RESOURCE, errorViewName, resource);
+                }
+            } catch (Exception e) {
+                //DefaultErrorViewResolver 와 같이 잘못된 위치는 건너뛴다
+            }
+        }
+        return new Page(Kind.NONE, null, null);
+    }
+
+    //템플릿 원본에 Thymeleaf 가 처리할 부분이 있는지 (읽지 못하면 처리한다고 본다)
+    private boolean isProcessed(String viewName) {
+        Resource template = applicationContext.getResource(thymeleafProperties.getPrefix() + viewName + thymeleafProperties.getSuffix());
+        try (InputStream in = template.getInputStream()) {
+            return containsProcessing(StreamUtils.copyToString(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    //네임스페이스 선언(xmlns:th)을 빼고 표현식, 인라인, th:/data-th- 속성이 하나라도 있으면 true
+    static boolean containsProcessing(String source) {
+        String withoutNamespace = THYMELEAF_NAMESPACE.matcher(source).replaceAll("");
+        return THYMELEAF_PROCESSING.matcher(withoutNamespace).find();
+    }
+
+    private View templateView(Page page, int status, Locale locale) {
+        PageKey key = new PageKey(status, locale);
+        CachedPageView view = rendered.get(key);
+        if (view != null) {
+            return view;
+        }
+        return new CapturingTemplateView(page.viewName(), key);
+    }
+
+    private View resourceView(Page page, int status) {
+        //정적 파일은 로케일과 상관없이 하나
+        PageKey key = new PageKey(status, Locale.ROOT);
+        CachedPageView view = rendered.get(key);
+        if (view != null) {
+            return view;
+        }
+        try (InputStream in = page.resource().getInputStream()) {
+            return store(key, new CachedPageView(StreamUtils.copyToByteArray(in)));
+        } catch (IOException e) {
+            throw new IllegalStateException("오류 페이지를 읽지 못했습니다. " + page.resource(), e);
+        }
+    }
+
+    private CachedPageView store(PageKey key, CachedPageView view) {
+        //로케일 종류만큼 늘어나므로 한도를 넘으면 캐시하지 않는다
+        if (rendered.size() < PAGE_CACHE_LIMIT) {
+            CachedPageView previous = rendered.putIfAbsent(key, view);
+            return previous != null ? previous : view;
+        }
+        return view;
+    }
+
+    @Override
+    public int getOrder() {
+        //DefaultErrorViewResolver(LOWEST_PRECEDENCE) 보다 먼저
+        return Ordered.LOWEST_PRECEDENCE - 10;
+    }
+
+    private enum Kind {
+        NONE, DYNAMIC_TEMPLATE, STATIC_TEMPLATE, STATIC_RESOURCE
+    }
+
+    private record Page(Kind kind, String viewName, Resource resource) {
+    }
+
+    private record PageKey(int status, Locale locale) {
+    }
+
+    /**
+     * 첫 요청은 실제 ThymeleafView 로 렌더링하면서 본문을 복사해 두고, 다음 요청부터는 CachedPageView 가 응답한다
+     */
+    private final class CapturingTemplateView implements View {
+
+        private final String viewName;
+        private final PageKey key;
+
+        private CapturingTemplateView(String viewName, PageKey key) {
+            this.viewName = viewName;
+            this.key = key;
+        }
+
+        @Override
+        public String getContentType() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+            View view = thymeleafViewResolver.resolveViewName(viewName, key.locale());
+            if (view == null) {
+                throw new IllegalStateException("오류 템플릿을 찾지 못했습니다. " + viewName);
+            }
+            ContentCachingResponseWrapper capturing = new ContentCachingResponseWrapper(response);
+            view.render(model, request, capturing);
+            store(key, new CachedPageView(capturing.getContentAsByteArray()));
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 미리 인코딩한 본문을 그대로 쓰는 View (Accept-Encoding 에 gzip 이 있으면 gzip 본문)
+     */
+    static final class CachedPageView implements View {
+
+        private final byte[] identity;
+        private final byte[] gzip;
+
+        CachedPageView(byte[] identity) {
+            this.identity = identity;
+            this.gzip = gzip(identity);
+        }
+
+        @Override
+        public String getContentType() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            byte[] body = identity;
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                body = gzip;
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setContentType(CONTENT_TYPE);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String token : acceptEncoding.split(",")) {
+                String[] parts = token.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+            return false;
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                gzipOut.write(bytes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package hello.exception.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.servlet.error.ErrorViewResolver;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.error.ErrorAttributes;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.ViewResolver;
+
+import java.util.List;
+
+/**
+ * exception.error-rendering=direct 이면 오류 응답을 ERROR 디스패치 없이 원래 요청에서 렌더링한다 (기본값 dispatch)
+ */
+@Configuration
+@ConditionalOnProperty(name = "exception.error-rendering", havingValue = "direct")
+public class DirectErrorConfig {
+
+    @Bean
+    public DirectErrorRenderer directErrorRenderer(ErrorAttributes errorAttributes, List<ErrorViewResolver> errorViewResolvers,
+                                                   @Qualifier("viewResolver") ViewResolver viewResolver,
+                                                   ObjectMapper objectMapper, ServerProperties serverProperties) {
+        return new DirectErrorRenderer(errorAttributes, errorViewResolvers, viewResolver, objectMapper, serverProperties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<DirectErrorFilter> directErrorFilter(DirectErrorRenderer directErrorRenderer) {
+        FilterRegistrationBean<DirectErrorFilter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(new DirectErrorFilter(directErrorRenderer));
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        filterRegistrationBean.addUrlPatterns("/*");
+        return filterRegistrationBean;
+    }
+
+}
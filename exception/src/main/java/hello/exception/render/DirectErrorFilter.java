@@ -0,0 +1,82 @@
+package hello.exception.render;
+
+import hello.exception.jfr.ErrorPageEvent;
+import hello.exception.trace.RequestTimeline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 오류 응답을 원래 요청(REQUEST 디스패치) 안에서 바로 렌더링하는 필터
+ * - sendError 호출(리졸버, ResponseStatusExceptionResolver 등)과 밖으로 던져진 예외를 여기서 잡아 DirectErrorRenderer 로 응답한다
+ * - 컨테이너의 ERROR 디스패치가 일어나지 않으므로 필터, 인터셉터, 오류 컨트롤러를 한 번 더 타지 않는다
+ * - 밖으로 던져진 예외는 컨테이너가 로그를 남기지 않으므로 여기서 ERROR 로 남긴다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DirectErrorFilter extends OncePerRequestFilter {
+
+    private final DirectErrorRenderer renderer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+
+        ErrorCapturingResponse capturingResponse = new ErrorCapturingResponse(response);
+        Throwable failure = null;
+        try {
+            chain.doFilter(request, capturingResponse);
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            failure = unwrap(e);
+            //dispatch 모드에서는 컨테이너(StandardWrapperValve)가 남기는 로그, 렌더링 전에 같은 수준으로 남긴다
+            log.error("Servlet.service() for [{}] threw exception", request.getRequestURI(), failure);
+        }
+
+        if (failure == null && !capturingResponse.isErrorSent()) {
+            return;
+        }
+        RequestTimeline.mark(request, "render.start");
+        ErrorPageEvent event = new ErrorPageEvent();
+        event.begin();
+        try {
+            if (failure != null) {
+                //WAS 까지 전파된 예외는 500
+                renderer.render(request, response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, failure.getMessage(), failure);
+            } else {
+                renderer.render(request, response, capturingResponse.getErrorStatus(), capturingResponse.getErrorMessage(), null);
+            }
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException("오류 응답 렌더링 실패", e);
+        } finally {
+            RequestTimeline.mark(request, "render.end");
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = request.getRequestURI();
+                event.requestUri = request.getRequestURI();
+                event.exceptionClass = failure != null ? failure.getClass() : null;
+                event.status = response.getStatus();
+                event.direct = true;
+                event.commit();
+            }
+        }
+    }
+
+    private Throwable unwrap(Throwable e) {
+        Throwable current = e;
+        while (current instanceof ServletException servletException && servletException.getRootCause() != null) {
+            current = servletException.getRootCause();
+        }
+        return current;
+    }
+
+}
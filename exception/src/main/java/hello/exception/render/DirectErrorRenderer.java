@@ -0,0 +1,152 @@
+package hello.exception.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.web.ErrorProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.servlet.error.ErrorViewResolver;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.boot.web.error.ErrorAttributeOptions.Include;
+import org.springframework.boot.web.servlet.error.ErrorAttributes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨테이너의 ERROR 디스패치 없이 원래 요청 안에서 오류 응답을 만든다
+ * - BasicErrorController 와 같은 규칙: ErrorAttributes 로 오류 정보를 만들고,
+ *   Accept 에 text/html 이 있으면 ErrorViewResolver 로 찾은 오류 뷰(templates/error/500.html, static/error/4xx.html ...)를, 아니면 JSON 을 응답
+ * - server.error.include-* 설정도 그대로 따른다
+ */
+public class DirectErrorRenderer {
+
+    private final ErrorAttributes errorAttributes;
+    private final List<ErrorViewResolver> errorViewResolvers;
+    private final ViewResolver viewResolver;
+    private final ObjectMapper objectMapper;
+    private final ErrorProperties errorProperties;
+
+    public DirectErrorRenderer(ErrorAttributes errorAttributes, List<ErrorViewResolver> errorViewResolvers,
+                               ViewResolver viewResolver, ObjectMapper objectMapper, ServerProperties serverProperties) {
+        this.errorAttributes = errorAttributes;
+        this.errorViewResolvers = errorViewResolvers;
+        this.viewResolver = viewResolver;
+        this.objectMapper = objectMapper;
+        this.errorProperties = serverProperties.getError();
+    }
+
+    public void render(HttpServletRequest request, HttpServletResponse response, int statusCode, String message, Throwable ex) throws Exception {
+        //컨테이너가 ERROR 디스패치 때 채워주는 속성을 직접 채운다 (ErrorAttributes, 오류 템플릿이 사용)
+        request.setAttribute(RequestDispatcher.ERROR_STATUS_CODE, statusCode);
+        request.setAttribute(RequestDispatcher.ERROR_REQUEST_URI, request.getRequestURI());
+        request.setAttribute(RequestDispatcher.ERROR_MESSAGE, message != null ? message : "");
+        if (ex != null) {
+            request.setAttribute(RequestDispatcher.ERROR_EXCEPTION, ex);
+            request.setAttribute(RequestDispatcher.ERROR_EXCEPTION_TYPE, ex.getClass());
+        }
+
+        response.resetBuffer();
+        response.setStatus(statusCode);
+        HttpStatus status = HttpStatus.resolve(statusCode);
+
+        //DispatcherServlet 이 이미 요청 바인딩을 해제했으므로 뷰 리졸버(ContentNegotiatingViewResolver)를 위해 다시 바인딩
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            if (AcceptHeaders.acceptsHtml(request.getHeader(HttpHeaders.ACCEPT))) {
+                renderHtml(request, response, status);
+            } else if (status != HttpStatus.NO_CONTENT) {
+                renderJson(request, response);
+            }
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    private void renderHtml(HttpServletRequest request, HttpServletResponse response, HttpStatus status) throws Exception {
+        Map<String, Object> model = Collections.unmodifiableMap(
+                errorAttributes.getErrorAttributes(new ServletWebRequest(request), options(request)));
+
+        ModelAndView mav = null;
+        if (status != null) {
+            for (ErrorViewResolver resolver : errorViewResolvers) {
+                mav = resolver.resolveErrorView(request, status, model);
+                if (mav != null) {
+                    break;
+                }
+            }
+        }
+
+        //DispatcherServlet.render 처럼 LocaleResolver 의 로케일을 응답에 설정한다 (Content-Language)
+        Locale locale = RequestContextUtils.getLocale(request);
+        response.setLocale(locale);
+
+        View view = null;
+        if (mav != null) {
+            view = mav.getView() != null ? mav.getView() : viewResolver.resolveViewName(mav.getViewName(), locale);
+        }
+        if (view == null) {
+            view = viewResolver.resolveViewName("error", locale);
+        }
+        if (view == null) {
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding("utf-8");
+            response.getWriter().write(model.getOrDefault("status", "") + " " + model.getOrDefault("error", ""));
+            return;
+        }
+        view.render(mav != null ? mav.getModel() : model, request, response);
+    }
+
+    private void renderJson(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        Map<String, Object> body = errorAttributes.getErrorAttributes(new ServletWebRequest(request), options(request));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private ErrorAttributeOptions options(HttpServletRequest request) {
+        Set<Include> includes = EnumSet.noneOf(Include.class);
+        if (errorProperties.isIncludeException()) {
+            includes.add(Include.EXCEPTION);
+        }
+        if (isIncluded(errorProperties.getIncludeStacktrace(), request, "trace")) {
+            includes.add(Include.STACK_TRACE);
+        }
+        if (isIncluded(errorProperties.getIncludeMessage(), request, "message")) {
+            includes.add(Include.MESSAGE);
+        }
+        if (isIncluded(errorProperties.getIncludeBindingErrors(), request, "errors")) {
+            includes.add(Include.BINDING_ERRORS);
+        }
+        return ErrorAttributeOptions.of(new ArrayList<>(includes));
+    }
+
+    private boolean isIncluded(ErrorProperties.IncludeAttribute include, HttpServletRequest request, String parameter) {
+        return switch (include) {
+            case ALWAYS -> true;
+            case ON_PARAM -> {
+                String value = request.getParameter(parameter);
+                yield value != null && !value.equalsIgnoreCase("false");
+            }
+            case NEVER -> false;
+        };
+    }
+
+}
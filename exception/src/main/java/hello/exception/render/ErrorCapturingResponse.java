@@ -0,0 +1,214 @@
+package hello.exception.render;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * sendError 를 컨테이너에 넘기지 않고 기록만 하는 응답 래퍼
+ * - 컨테이너의 sendError 는 요청이 끝난 뒤 ERROR 디스패치(오류 페이지 재요청)를 일으킨다
+ * - 기록한 뒤에는 컨테이너처럼 응답을 커밋된 것으로 보고 이후의 본문 쓰기, 상태 코드와 헤더 변경을 무시한다
+ *   (오류 응답은 DirectErrorFilter 가 원래 응답에 다시 쓴다)
+ */
+class ErrorCapturingResponse extends HttpServletResponseWrapper {
+
+    private Integer errorStatus;
+    private String errorMessage;
+    private boolean suspended;
+
+    private ServletOutputStream discardingOutputStream;
+    private PrintWriter discardingWriter;
+
+    ErrorCapturingResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        if (isCommitted()) {
+            throw new IllegalStateException("Cannot call sendError() after the response has been committed");
+        }
+        this.errorStatus = sc;
+        this.errorMessage = msg;
+        resetBuffer();
+        super.setStatus(sc);
+        this.suspended = true;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return suspended || super.isCommitted();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (!suspended) {
+            return super.getOutputStream();
+        }
+        if (discardingOutputStream == null) {
+            discardingOutputStream = new DiscardingOutputStream();
+        }
+        return discardingOutputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (!suspended) {
+            return super.getWriter();
+        }
+        if (discardingWriter == null) {
+            discardingWriter = new PrintWriter(new OutputStreamWriter(new DiscardingOutputStream(), StandardCharsets.UTF_8));
+        }
+        return discardingWriter;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (!suspended) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!suspended) {
+            super.setStatus(sc);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (!suspended) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (!suspended) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (!suspended) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (!suspended) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        if (!suspended) {
+            super.setDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        if (!suspended) {
+            super.addDateHeader(name, date);
+        }
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        if (!suspended) {
+            super.setCharacterEncoding(charset);
+        }
+    }
+
+    @Override
+    public void setLocale(Locale locale) {
+        if (!suspended) {
+            super.setLocale(locale);
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (!suspended) {
+            super.reset();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (!suspended) {
+            super.resetBuffer();
+        }
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (!suspended) {
+            super.setContentType(type);
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        if (!suspended) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (!suspended) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    boolean isErrorSent() {
+        return errorStatus != null;
+    }
+
+    int getErrorStatus() {
+        return errorStatus;
+    }
+
+    String getErrorMessage() {
+        return errorMessage;
+    }
+
+    private static final class DiscardingOutputStream extends ServletOutputStream {
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+}
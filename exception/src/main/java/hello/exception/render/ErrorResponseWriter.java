@@ -0,0 +1,124 @@
+package hello.exception.render;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오류 응답 JSON 을 응답 OutputStream 에 바로 쓰는 writer
+ * - Map 을 만들어 ObjectMapper 로 문자열을 만든 뒤 다시 Writer 로 쓰는 대신, 스트리밍 JsonGenerator 로 한 번에 쓴다
+ * - 필드 이름, 예외 클래스 이름, 반복되는 메시지(UserException.cached 등)는 예외 타입별로 UTF-8 인코딩 결과를 캐시해서 그대로 복사한다
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final int MESSAGE_CACHE_LIMIT = 64;
+
+    private static final SerializedString EX = new SerializedString("ex");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private final Map<Class<?>, EncodedType> encodedTypes = new ConcurrentHashMap<>();
+
+    /**
+     * {"ex": 예외 클래스 이름, "message": 예외 메시지}
+     */
+    public void writeException(HttpServletResponse response, int status, Throwable ex) throws IOException {
+        prepare(response, status);
+        writeException(response.getOutputStream(), ex);
+    }
+
+    public void writeException(OutputStream out, Throwable ex) throws IOException {
+        EncodedType type = encodedType(ex.getClass());
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName(EX);
+            generator.writeString(type.name);
+            generator.writeFieldName(MESSAGE);
+            writeMessage(generator, type, ex.getMessage());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * {"status": 상태 코드, "message": 예외 메시지}
+     */
+    public void writeStatus(HttpServletResponse response, int status, Throwable ex) throws IOException {
+        prepare(response, status);
+        writeStatus(response.getOutputStream(), status, ex);
+    }
+
+    public void writeStatus(OutputStream out, int status, Throwable ex) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName(STATUS);
+            generator.writeNumber(status);
+            generator.writeFieldName(MESSAGE);
+            if (ex == null) {
+                generator.writeNull();
+            } else {
+                writeMessage(generator, encodedType(ex.getClass()), ex.getMessage());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void prepare(HttpServletResponse response, int status) {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("utf-8");
+    }
+
+    private void writeMessage(JsonGenerator generator, EncodedType type, String message) throws IOException {
+        if (message == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(type.message(message));
+        }
+    }
+
+    private EncodedType encodedType(Class<?> exceptionClass) {
+        EncodedType type = encodedTypes.get(exceptionClass);
+        if (type == null) {
+            type = encodedTypes.computeIfAbsent(exceptionClass, EncodedType::new);
+        }
+        return type;
+    }
+
+    private static final class EncodedType {
+
+        private final SerializedString name;
+        private final Map<String, SerializableString> messages = new ConcurrentHashMap<>();
+
+        private EncodedType(Class<?> exceptionClass) {
+            this.name = new SerializedString(exceptionClass.getName());
+        }
+
+        //메시지 종류가 한도를 넘으면(요청 값이 들어간 메시지 등) 더 캐시하지 않고 매번 인코딩한다
+        private SerializableString message(String message) {
+            SerializableString encoded = messages.get(message);
+            if (encoded != null) {
+                return encoded;
+            }
+            encoded = new SerializedString(message);
+            if (messages.size() < MESSAGE_CACHE_LIMIT) {
+                messages.putIfAbsent(message, encoded);
+            }
+            return encoded;
+        }
+    }
+
+}
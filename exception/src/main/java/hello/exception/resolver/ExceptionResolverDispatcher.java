@@ -0,0 +1,135 @@
+package hello.exception.resolver;
+
+import hello.exception.jfr.ErrorEvents;
+import hello.exception.jfr.ResolverInvokedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예외 클래스별 디스패치 테이블을 가진 복합 예외 리졸버
+ * - 리졸버를 순서대로 모두 호출하며 instanceof 검사를 반복하는 대신, 예외 클래스로 한 번 조회해서 처리 가능한 리졸버만 호출한다
+ * - 테이블은 실제로 발생한 구체 예외 클래스별로 처음 한 번만 계산한다 (부모 클래스와 인터페이스를 따라 더 가까운 타입을 선언한 리졸버가 먼저, 같으면 등록 순서)
+ * - 처리할 리졸버가 없는 예외도 빈 목록으로 캐시되므로 리졸버가 늘어나도 오류 경로 비용은 그대로다
+ */
+@Slf4j
+public class ExceptionResolverDispatcher {
+
+    private final List<TypedHandlerExceptionResolver> resolvers;
+    private final Map<Class<?>, List<HandlerExceptionResolver>> dispatchTable = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ExceptionResolverDispatcher(List<TypedHandlerExceptionResolver> resolvers) {
+        this.resolvers = List.copyOf(resolvers);
+    }
+
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        for (HandlerExceptionResolver resolver : resolversFor(ex.getClass())) {
+            ResolverInvokedEvent event = new ResolverInvokedEvent();
+            event.begin();
+            ModelAndView mav = resolver.resolveException(request, response, handler, ex);
+            event.end();
+            if (event.shouldCommit()) {
+                event.resolver = resolver.getClass().getSimpleName();
+                event.exceptionClass = ex.getClass();
+                event.handler = ErrorEvents.handlerName(handler);
+                event.status = response.getStatus();
+                event.resolved = mav != null;
+                event.commit();
+            }
+            if (mav != null) {
+                return mav;
+            }
+        }
+        return null;
+    }
+
+    List<HandlerExceptionResolver> resolversFor(Class<?> exceptionClass) {
+        List<HandlerExceptionResolver> cached = dispatchTable.get(exceptionClass);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return dispatchTable.computeIfAbsent(exceptionClass, this::match);
+    }
+
+    private List<HandlerExceptionResolver> match(Class<?> exceptionClass) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int order = 0; order < resolvers.size(); order++) {
+            TypedHandlerExceptionResolver resolver = resolvers.get(order);
+            int distance = distance(exceptionClass, resolver.getExceptionTypes());
+            if (distance >= 0) {
+                candidates.add(new Candidate(resolver, distance, order));
+            }
+        }
+        candidates.sort(Comparator.comparingInt(Candidate::distance).thenComparingInt(Candidate::order));
+
+        List<HandlerExceptionResolver> matched = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            matched.add(candidate.resolver());
+        }
+        log.debug("resolver dispatch {} -> {}", exceptionClass.getName(), matched);
+        return List.copyOf(matched);
+    }
+
+    //선언 타입까지의 상속 거리 (처리할 수 없으면 -1)
+    //부모 클래스와 직접 구현한 인터페이스를 한 단계로 보고 가까운 단계부터 찾는다
+    private int distance(Class<?> exceptionClass, List<Class<?>> types) {
+        Set<Class<?>> visited = new HashSet<>();
+        List<Class<?>> level = List.of(exceptionClass);
+        for (int depth = 0; !level.isEmpty(); depth++) {
+            List<Class<?>> next = new ArrayList<>();
+            for (Class<?> current : level) {
+                if (!visited.add(current)) {
+                    continue;
+                }
+                if (types.contains(current)) {
+                    return depth;
+                }
+                if (current.getSuperclass() != null) {
+                    next.add(current.getSuperclass());
+                }
+                next.addAll(Arrays.asList(current.getInterfaces()));
+            }
+            level = next;
+        }
+        return -1;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    public int getCachedExceptionTypes() {
+        return dispatchTable.size();
+    }
+
+    private record Candidate(HandlerExceptionResolver resolver, int distance, int order) {
+    }
+
+}
@@ -3,13 +3,18 @@ package hello.exception.resolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
-public class MyHandlerExceptionResolver implements HandlerExceptionResolver {
+public class MyHandlerExceptionResolver implements TypedHandlerExceptionResolver {
+
+    @Override
+    public List<Class<?>> getExceptionTypes() {
+        return List.of(IllegalArgumentException.class);
+    }
 
     /**
      * 스프링 MVC 는 핸들러 밖으로 예외가 던져진 경우 예외를 해결하고 동작을 새로 정의할 수 있는 방법을 제공한다
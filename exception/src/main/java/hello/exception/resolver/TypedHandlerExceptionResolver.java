@@ -0,0 +1,19 @@
+package hello.exception.resolver;
+
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+/**
+ * 처리할 수 있는 예외 타입을 미리 알려주는 HandlerExceptionResolver
+ * - ExceptionResolverDispatcher 는 이 정보로 예외 클래스별 디스패치 테이블을 만든다
+ * - 지정한 예외와 그 자식 예외가 대상이다, 인터페이스를 지정하면 그 인터페이스를 구현한 예외가 대상이다
+ */
+public interface TypedHandlerExceptionResolver extends HandlerExceptionResolver {
+
+    /**
+     * @return 예외 클래스 또는 예외가 구현하는 인터페이스
+     */
+    List<Class<?>> getExceptionTypes();
+
+}
@@ -1,21 +1,27 @@
 package hello.exception.resolver;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import hello.exception.exception.UserException;
+import hello.exception.render.AcceptHeaders;
+import hello.exception.render.ErrorResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
-public class UserHandlerExceptionResolver implements HandlerExceptionResolver {
+@RequiredArgsConstructor
+public class UserHandlerExceptionResolver implements TypedHandlerExceptionResolver {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public List<Class<?>> getExceptionTypes() {
+        return List.of(UserException.class);
+    }
 
     /**
      * ExceptionHandler 를 사용하면 예외가 서블릿 컨테이너까지 전달되지 않고 스프링 MVC 에서 끝이난다
@@ -34,16 +40,9 @@ public class UserHandlerExceptionResolver implements HandlerExceptionResolver {
                 String acceptHeader = request.getHeader("accept");
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 
-                if(acceptHeader.equals("application/json")){
-                    Map<String, Object> errorResult = new HashMap<>();
-                    errorResult.put("ex", ex.getClass());
-                    errorResult.put("message", ex.getMessage());
-
-                    String result = objectMapper.writeValueAsString(errorResult);
-
-                    response.setContentType("application/json");
-                    response.setCharacterEncoding("utf-8");
-                    response.getWriter().write(result);
+                //accept 헤더가 없으면 HTML 오류 페이지
+                if(AcceptHeaders.prefersJson(acceptHeader)){
+                    errorResponseWriter.writeException(response, HttpServletResponse.SC_BAD_REQUEST, ex);
                     return new ModelAndView();
                 }else{
                     return new ModelAndView("error/500");
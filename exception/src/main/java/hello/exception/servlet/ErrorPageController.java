@@ -1,22 +1,24 @@
 package hello.exception.servlet;
 
+import hello.exception.render.ErrorResponseWriter;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
 @Controller
 @Slf4j
+@RequiredArgsConstructor
 public class ErrorPageController {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     /**
      * 예외 발생과 오류 페이지 요청 흐름
      * 1. 예외가 발생해서 WAS 까지 전파된다
@@ -36,17 +38,14 @@ public class ErrorPageController {
 
     /**
      * produces - Http Header 의 Accept 값이 application/json 일 때 호출
+     * - {"status", "message"} 를 응답 OutputStream 에 바로 쓴다 (sendError 로 온 경우 예외가 없으므로 message 는 null)
      */
     @RequestMapping(value = "/error-page/500", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> errorPage500Api(HttpServletRequest request, HttpServletResponse response) {
+    public void errorPage500Api(HttpServletRequest request, HttpServletResponse response) throws IOException {
         log.info("API errorPage 500");
-        Map<String, Object> result = new HashMap<>();
-        Exception ex = (Exception) request.getAttribute("jakarta.servlet.error.exception");
-        result.put("status", request.getAttribute("jakarta.servlet.error.status_code"));
-        result.put("message", ex.getMessage());
-        Integer statusCode = (Integer)
-                request.getAttribute(RequestDispatcher.ERROR_STATUS_CODE);
-        return new ResponseEntity(result, HttpStatus.valueOf(statusCode));
+        Throwable ex = (Throwable) request.getAttribute(RequestDispatcher.ERROR_EXCEPTION);
+        Integer statusCode = (Integer) request.getAttribute(RequestDispatcher.ERROR_STATUS_CODE);
+        errorResponseWriter.writeStatus(response, statusCode != null ? statusCode : HttpServletResponse.SC_INTERNAL_SERVER_ERROR, ex);
     }
 
 }
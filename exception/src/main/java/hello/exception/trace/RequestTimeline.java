@@ -0,0 +1,79 @@
+package hello.exception.trace;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나의 단계별 시각 기록 (REQUEST 디스패치와 이어지는 ERROR 디스패치를 같은 id 로 묶는다)
+ * - 시각은 System.nanoTime 기준 요청 시작으로부터의 경과 시간
+ * - 요청 속성으로 전달되며 한 요청은 한 스레드에서 처리되므로 동기화하지 않는다
+ */
+public class RequestTimeline {
+
+    public static final String ATTRIBUTE = RequestTimeline.class.getName();
+
+    private static final int MAX_EVENTS = 64;
+
+    private final String id;
+    private final String method;
+    private final String uri;
+    private final long startNanos;
+
+    private final String[] phases = new String[MAX_EVENTS];
+    private final DispatcherType[] dispatchTypes = new DispatcherType[MAX_EVENTS];
+    private final long[] offsets = new long[MAX_EVENTS];
+    private int size;
+    private int status;
+
+    public RequestTimeline(String id, String method, String uri) {
+        this.id = id;
+        this.method = method;
+        this.uri = uri;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 요청에 타임라인이 있으면 단계를 기록한다 (추적을 끈 경우 아무것도 하지 않는다)
+     */
+    public static void mark(ServletRequest request, String phase) {
+        if (request.getAttribute(ATTRIBUTE) instanceof RequestTimeline timeline) {
+            timeline.mark(phase, request.getDispatcherType());
+        }
+    }
+
+    public void mark(String phase, DispatcherType dispatchType) {
+        if (size == MAX_EVENTS) {
+            return;
+        }
+        phases[size] = phase;
+        dispatchTypes[size] = dispatchType;
+        offsets[size] = System.nanoTime() - startNanos;
+        size++;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public TimelineRecord toRecord() {
+        List<TimelineRecord.Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new TimelineRecord.Event(phases[i], dispatchTypes[i], TimeUnit.NANOSECONDS.toMicros(offsets[i])));
+        }
+        long totalMicros = size == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(offsets[size - 1]);
+        return new TimelineRecord(id, method, uri, status, totalMicros, events);
+    }
+
+}
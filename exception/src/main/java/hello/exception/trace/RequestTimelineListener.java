@@ -0,0 +1,41 @@
+package hello.exception.trace;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.servlet.ServletRequestListener;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청의 시작과 끝에서 타임라인을 만들고 마무리한다
+ * - 서블릿 컨테이너는 ERROR 디스패치(오류 페이지 요청)까지 모두 끝난 뒤 requestDestroyed 를 호출하므로
+ *   REQUEST / ERROR 디스패치가 하나의 타임라인에 담긴다
+ */
+@RequiredArgsConstructor
+public class RequestTimelineListener implements ServletRequestListener {
+
+    private final TimelineRecorder timelineRecorder;
+
+    @Override
+    public void requestInitialized(ServletRequestEvent sre) {
+        ServletRequest request = sre.getServletRequest();
+        if (request instanceof HttpServletRequest httpRequest) {
+            String id = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            RequestTimeline timeline = new RequestTimeline(id, httpRequest.getMethod(), httpRequest.getRequestURI());
+            timeline.mark("request.start", request.getDispatcherType());
+            request.setAttribute(RequestTimeline.ATTRIBUTE, timeline);
+        }
+    }
+
+    @Override
+    public void requestDestroyed(ServletRequestEvent sre) {
+        ServletRequest request = sre.getServletRequest();
+        if (request.getAttribute(RequestTimeline.ATTRIBUTE) instanceof RequestTimeline timeline) {
+            timeline.mark("request.end", request.getDispatcherType());
+            timelineRecorder.finish(timeline);
+        }
+    }
+
+}
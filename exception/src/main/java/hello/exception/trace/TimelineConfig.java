@@ -0,0 +1,53 @@
+package hello.exception.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletListenerRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * exception.trace.enabled=true 이면 요청마다 단계별 타임라인을 기록하고 샘플링해서 /monitor/timelines 로 내보낸다
+ */
+@Configuration
+@ConditionalOnProperty(name = "exception.trace.enabled", havingValue = "true")
+public class TimelineConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        //ERROR 디스패치(/error, /error-page/**)도 기록하므로 경로를 제외하지 않는다
+        registry.addInterceptor(new TimelineInterceptor())
+                .order(Ordered.HIGHEST_PRECEDENCE)
+                .addPathPatterns("/**");
+    }
+
+    @Bean
+    public TimelineRecorder timelineRecorder(ObjectMapper objectMapper,
+                                             @Value("${exception.trace.sample-rate:0.01}") double sampleRate,
+                                             @Value("${exception.trace.error-sample-rate:1.0}") double errorSampleRate,
+                                             @Value("${exception.trace.capacity:1000}") int capacity) {
+        return new TimelineRecorder(objectMapper, sampleRate, errorSampleRate, capacity);
+    }
+
+    @Bean
+    public ServletListenerRegistrationBean<RequestTimelineListener> requestTimelineListener(TimelineRecorder timelineRecorder) {
+        return new ServletListenerRegistrationBean<>(new RequestTimelineListener(timelineRecorder));
+    }
+
+    @Bean
+    public FilterRegistrationBean<TimelineFilter> timelineFilter() {
+        FilterRegistrationBean<TimelineFilter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(new TimelineFilter());
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        filterRegistrationBean.addUrlPatterns("/*");
+        filterRegistrationBean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ERROR);
+        return filterRegistrationBean;
+    }
+
+}
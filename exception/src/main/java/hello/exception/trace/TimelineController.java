@@ -0,0 +1,27 @@
+package hello.exception.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 샘플링된 타임라인을 JSON lines 로 내려준다 (curl .../monitor/timelines > timelines.jsonl)
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "exception.trace.enabled", havingValue = "true")
+public class TimelineController {
+
+    private final TimelineRecorder timelineRecorder;
+
+    @GetMapping(value = "/monitor/timelines", produces = "application/x-ndjson")
+    public String timelines() {
+        StringBuilder sb = new StringBuilder();
+        for (String line : timelineRecorder.getLines()) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+}
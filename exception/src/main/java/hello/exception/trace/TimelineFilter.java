@@ -0,0 +1,31 @@
+package hello.exception.trace;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 필터 체인 진입/종료 시각과 디스패치별 응답 상태를 기록한다 (REQUEST, ERROR 디스패치 모두)
+ */
+public class TimelineFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        RequestTimeline.mark(request, "filter.start");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTimeline.mark(request, "filter.end");
+            //마지막 디스패치의 상태가 최종 응답 상태
+            if (request.getAttribute(RequestTimeline.ATTRIBUTE) instanceof RequestTimeline timeline) {
+                timeline.setStatus(((HttpServletResponse) response).getStatus());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package hello.exception.trace;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 핸들러 실행 구간과 뷰 렌더링까지 끝난 시각을 기록한다
+ * - handler.end 는 핸들러가 정상 종료한 경우에만 남는다 (예외면 resolve.start 가 이어진다)
+ */
+public class TimelineInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimeline.mark(request, "handler.start");
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        RequestTimeline.mark(request, "handler.end");
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTimeline.mark(request, "completion");
+    }
+
+}
@@ -0,0 +1,15 @@
+package hello.exception.trace;
+
+import jakarta.servlet.DispatcherType;
+
+import java.util.List;
+
+/**
+ * 내보내는 타임라인 한 줄 (JSON lines)
+ */
+public record TimelineRecord(String id, String method, String uri, int status, long totalMicros, List<Event> events) {
+
+    public record Event(String phase, DispatcherType dispatch, long atMicros) {
+    }
+
+}
@@ -0,0 +1,63 @@
+package hello.exception.trace;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 끝난 타임라인을 샘플링해서 JSON 한 줄로 만들어 최근 capacity 개를 보관한다
+ * - 오류 응답(4xx, 5xx)은 error-sample-rate, 나머지는 sample-rate 로 샘플링
+ * - 보관은 덮어쓰는 링 버퍼라 요청 스레드가 서로 기다리지 않는다
+ */
+@Slf4j
+public class TimelineRecorder {
+
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final double errorSampleRate;
+    private final AtomicReferenceArray<String> lines;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public TimelineRecorder(ObjectMapper objectMapper, double sampleRate, double errorSampleRate, int capacity) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+        this.errorSampleRate = errorSampleRate;
+        this.lines = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void finish(RequestTimeline timeline) {
+        double rate = timeline.getStatus() >= 400 ? errorSampleRate : sampleRate;
+        if (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+            return;
+        }
+        try {
+            String line = objectMapper.writeValueAsString(timeline.toRecord());
+            lines.set((int) (cursor.getAndIncrement() % lines.length()), line);
+        } catch (JsonProcessingException e) {
+            log.warn("timeline export failed id={}", timeline.getId(), e);
+        }
+    }
+
+    /**
+     * 보관 중인 타임라인 (오래된 것부터)
+     */
+    public List<String> getLines() {
+        long end = cursor.get();
+        long start = Math.max(0, end - lines.length());
+        List<String> result = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            String line = lines.get((int) (i % lines.length()));
+            if (line != null) {
+                result.add(line);
+            }
+        }
+        return result;
+    }
+
+}
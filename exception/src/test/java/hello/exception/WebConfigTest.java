@@ -0,0 +1,40 @@
+package hello.exception;
+
+import hello.exception.resolver.ExceptionResolverDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ExceptionResolverDispatcher exceptionResolverDispatcher;
+
+    @Test
+    void dispatcherRunsOncePerException() throws Exception {
+        long before = lookups();
+
+        mockMvc.perform(get("/api/members/user-ex").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        //리졸버 체인 안에서 한 번만 조회한다 (DispatcherServlet 이 빈으로 찾아 한 번 더 호출하지 않는다)
+        assertThat(lookups() - before).isEqualTo(1);
+    }
+
+    private long lookups() {
+        return exceptionResolverDispatcher.getHits() + exceptionResolverDispatcher.getMisses();
+    }
+
+}
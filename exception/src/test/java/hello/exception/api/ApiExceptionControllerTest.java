@@ -0,0 +1,80 @@
+package hello.exception.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * API 예외 응답 (기본 dispatch 모드)
+ * - sendError 와 WAS 까지 전파된 예외는 ERROR 디스패치가 필요하므로 MockMvc 대신 실제 서버로 요청한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiExceptionControllerTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void member() {
+        ResponseEntity<String> response = getJson("/api/members/spring");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo("{\"memberId\":\"spring\",\"name\":\"hello spring\"}");
+    }
+
+    @Test
+    void runtimeException() {
+        ResponseEntity<String> response = getJson("/api/members/ex");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(500);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody())
+                .contains("\"status\":500")
+                .contains("\"message\":\"잘못된 사용자\"")
+                .contains("\"path\":\"/api/members/ex\"");
+    }
+
+    @Test
+    void illegalArgumentException() {
+        ResponseEntity<String> response = getJson("/api/members/bad");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody())
+                .contains("\"status\":400")
+                .contains("\"message\":\"잘못된 입력 값\"");
+    }
+
+    @Test
+    void userException() {
+        ResponseEntity<String> response = getJson("/api/members/user-ex");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody())
+                .isEqualTo("{\"ex\":\"hello.exception.exception.UserException\",\"message\":\"사용자 오류\"}");
+    }
+
+    @Test
+    void responseStatusException() {
+        ResponseEntity<String> response = getJson("/api/response-status-ex1");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody()).contains("\"message\":\"잘못된 요청 오류입니다.\"");
+    }
+
+    private ResponseEntity<String> getJson(String path) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+}
@@ -0,0 +1,43 @@
+package hello.exception.breaker;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "exception.circuit-breaker.enabled=true")
+@AutoConfigureMockMvc
+class CircuitBreakerInterceptorTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void opensOnlyAnnotatedHandler() throws Exception {
+        //기본 설정: 호출 20번 이상, 실패 비율 50% 이상이면 열린다
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> mockMvc.perform(get("/api/circuit-breaker/members/ex")))
+                    .isInstanceOf(ServletException.class);
+        }
+
+        mockMvc.perform(get("/api/circuit-breaker/members/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("CIRCUIT-OPEN"));
+
+        //@CircuitBreaker 가 없는 기존 핸들러는 영향을 받지 않는다
+        mockMvc.perform(get("/api/members/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value("1"));
+    }
+
+}
@@ -0,0 +1,177 @@
+package hello.exception.breaker;
+
+import hello.exception.breaker.HandlerCircuitBreaker.Permit;
+import hello.exception.breaker.HandlerCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandlerCircuitBreakerTest {
+
+    static final long OPEN_MILLIS = 50;
+    static final int HALF_OPEN_CALLS = 3;
+
+    @CircuitBreaker(failureRateThreshold = 0.5, minimumCalls = 4, windowSeconds = 10,
+            openMillis = OPEN_MILLIS, halfOpenCalls = HALF_OPEN_CALLS)
+    void annotated() {
+    }
+
+    @Test
+    void closedToOpen() {
+        HandlerCircuitBreaker breaker = breaker();
+
+        //최소 호출 수에 못 미치면 실패해도 열리지 않는다
+        recordClosed(breaker, false);
+        recordClosed(breaker, false);
+        recordClosed(breaker, true);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        recordClosed(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isSameAs(Permit.REJECTED);
+        assertThat(breaker.snapshot().opened()).isEqualTo(1);
+    }
+
+    @Test
+    void halfOpenToClosed() throws InterruptedException {
+        HandlerCircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_MILLIS * 2);
+
+        List<Permit> trials = acquireTrials(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isSameAs(Permit.REJECTED);
+
+        for (Permit trial : trials) {
+            breaker.record(trial, true);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        //닫히면 열리기 전의 실패는 다시 세지 않는다
+        assertThat(breaker.snapshot().calls()).isZero();
+        assertThat(breaker.tryAcquire()).isSameAs(Permit.CLOSED);
+    }
+
+    @Test
+    void halfOpenToOpen() throws InterruptedException {
+        HandlerCircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_MILLIS * 2);
+
+        List<Permit> trials = acquireTrials(breaker);
+        breaker.record(trials.get(0), true);
+        breaker.record(trials.get(1), false);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.snapshot().opened()).isEqualTo(2);
+        //같은 시험의 남은 결과는 상태를 바꾸지 않는다
+        breaker.record(trials.get(2), true);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isSameAs(Permit.REJECTED);
+    }
+
+    @Test
+    void staleTrialResultsAreIgnored() throws InterruptedException {
+        HandlerCircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_MILLIS * 2);
+        List<Permit> first = acquireTrials(breaker);
+        breaker.record(first.get(0), false);
+
+        Thread.sleep(OPEN_MILLIS * 2);
+        List<Permit> second = acquireTrials(breaker);
+        assertThat(second.get(0).generation()).isGreaterThan(first.get(0).generation());
+
+        //지난 시험의 늦은 성공은 이번 시험의 성공 수에 더해지지 않는다
+        breaker.record(first.get(1), true);
+        breaker.record(first.get(2), true);
+        breaker.record(second.get(0), true);
+        breaker.record(second.get(1), true);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        //지난 시험의 늦은 실패도 이번 시험을 다시 열지 않는다
+        breaker.record(first.get(1), false);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.record(second.get(2), true);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void concurrentTrialPermits() throws Exception {
+        int threads = 16;
+        int attempts = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 20; round++) {
+                HandlerCircuitBreaker breaker = openedBreaker();
+                Thread.sleep(OPEN_MILLIS * 2);
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        int trials = 0;
+                        for (int i = 0; i < attempts; i++) {
+                            if (breaker.tryAcquire().type() == Permit.Type.TRIAL) {
+                                trials++;
+                            }
+                        }
+                        return trials;
+                    }));
+                }
+                start.countDown();
+
+                int trials = 0;
+                for (Future<Integer> future : futures) {
+                    trials += future.get(10, TimeUnit.SECONDS);
+                }
+                //허가 수가 0 아래로 내려가지 않으므로 정확히 halfOpenCalls 개만 나간다
+                assertThat(trials).isEqualTo(HALF_OPEN_CALLS);
+                assertThat(breaker.snapshot().rejected()).isEqualTo((long) threads * attempts - HALF_OPEN_CALLS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private HandlerCircuitBreaker breaker() {
+        try {
+            CircuitBreaker config = getClass().getDeclaredMethod("annotated").getAnnotation(CircuitBreaker.class);
+            return new HandlerCircuitBreaker("test", config);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HandlerCircuitBreaker openedBreaker() {
+        HandlerCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            recordClosed(breaker, false);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        return breaker;
+    }
+
+    private static void recordClosed(HandlerCircuitBreaker breaker, boolean success) {
+        Permit permit = breaker.tryAcquire();
+        assertThat(permit).isSameAs(Permit.CLOSED);
+        breaker.record(permit, success);
+    }
+
+    private static List<Permit> acquireTrials(HandlerCircuitBreaker breaker) {
+        List<Permit> trials = new ArrayList<>();
+        for (int i = 0; i < HALF_OPEN_CALLS; i++) {
+            Permit permit = breaker.tryAcquire();
+            assertThat(permit.type()).isEqualTo(Permit.Type.TRIAL);
+            trials.add(permit);
+        }
+        return trials;
+    }
+
+}
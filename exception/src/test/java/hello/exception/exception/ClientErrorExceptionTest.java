@@ -0,0 +1,77 @@
+package hello.exception.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientErrorExceptionTest {
+
+    @AfterEach
+    void restore() {
+        ClientErrorException.setStackTraceEnabled(false);
+    }
+
+    @Test
+    void stacklessByDefault() {
+        assertThat(new UserException("사용자 오류").getStackTrace()).isEmpty();
+        assertThat(new BadRequestException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void stackTraceCanBeEnabled() {
+        ClientErrorException.setStackTraceEnabled(true);
+
+        assertThat(new UserException("사용자 오류").getStackTrace()).isNotEmpty();
+        //디버깅 중에는 공유 인스턴스 대신 매번 새로 만든다
+        assertThat(UserException.cached("사용자 오류")).isNotSameAs(UserException.cached("사용자 오류"));
+        assertThat(BadRequestException.instance()).isNotSameAs(BadRequestException.instance());
+    }
+
+    @Test
+    void settingsRestorePreviousValueOnClose() {
+        ClientErrorExceptionSettings settings = new ClientErrorExceptionSettings(true);
+        assertThat(ClientErrorException.isStackTraceEnabled()).isTrue();
+
+        settings.destroy();
+        assertThat(ClientErrorException.isStackTraceEnabled()).isFalse();
+    }
+
+    @Test
+    void cachedInstancesAreShared() {
+        UserException first = UserException.cached("사용자 오류");
+
+        assertThat(UserException.cached("사용자 오류")).isSameAs(first);
+        assertThat(BadRequestException.instance()).isSameAs(BadRequestException.instance());
+
+        //공유 인스턴스에는 suppressed 예외가 쌓이지 않는다
+        first.addSuppressed(new IllegalStateException());
+        assertThat(first.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void serializable() throws Exception {
+        UserException deserialized = roundTrip(new UserException("사용자 오류", new IllegalStateException("원인")));
+
+        assertThat(deserialized.getMessage()).isEqualTo("사용자 오류");
+        assertThat(deserialized.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("원인");
+        assertThat(roundTrip(BadRequestException.instance())).isInstanceOf(BadRequestException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Exception> T roundTrip(T ex) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ex);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package hello.exception.exhandler;
+
+import hello.exception.exception.UserException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ExceptionLoggerTest {
+
+    //요약은 테스트에서 직접 호출한다
+    ExceptionLogger exceptionLogger = new ExceptionLogger(2, Duration.ofHours(1), 3);
+
+    @AfterEach
+    void close() {
+        exceptionLogger.close();
+    }
+
+    @Test
+    void limitsTracesPerFingerprint() {
+        Logger logger = mock(Logger.class);
+
+        for (int i = 0; i < 5; i++) {
+            exceptionLogger.error(logger, "[exceptionHandler] ex", sameSite());
+        }
+
+        verify(logger, times(2)).error(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void fingerprintsAreCountedSeparately() {
+        Logger logger = mock(Logger.class);
+
+        for (int i = 0; i < 5; i++) {
+            exceptionLogger.error(logger, "[exceptionHandler] ex", sameSite());
+            exceptionLogger.error(logger, "[exceptionHandler] ex", new UserException("사용자 오류"));
+        }
+
+        //지문 두 개, 각각 2 번씩
+        verify(logger, times(4)).error(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void summarizeStartsNewWindow() {
+        Logger logger = mock(Logger.class);
+        for (int i = 0; i < 3; i++) {
+            exceptionLogger.error(logger, "[exceptionHandler] ex", sameSite());
+        }
+
+        exceptionLogger.summarize();
+        for (int i = 0; i < 3; i++) {
+            exceptionLogger.error(logger, "[exceptionHandler] ex", sameSite());
+        }
+
+        verify(logger, times(4)).error(anyString(), any(Throwable.class));
+    }
+
+    //같은 위치에서 만든 예외는 지문이 같다
+    private static IllegalStateException sameSite() {
+        return new IllegalStateException("같은 위치");
+    }
+
+}
@@ -0,0 +1,71 @@
+package hello.exception.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ErrorEventsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordHandlerExceptionAndResolverEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(HandlerExceptionEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(ResolverInvokedEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            //직접 만든 리졸버(ExceptionResolverDispatcher)가 처리
+            mockMvc.perform(get("/api/members/user-ex").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
+            //@ExceptionHandler(ExControllerAdvice)가 처리
+            mockMvc.perform(get("/api3/members/bad").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/members/spring").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+            recording.stop();
+            Path file = dir.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> handlerEvents = events(events, "hello.exception.HandlerException");
+        assertThat(handlerEvents).hasSize(2);
+        assertThat(handlerEvents).extracting(e -> e.getString("handler"))
+                .containsExactlyInAnyOrder("ApiExceptionController#getMember", "ApiExceptionV3Controller#getMember");
+        assertThat(handlerEvents).allMatch(e -> e.getInt("status") == 400);
+
+        List<RecordedEvent> resolverEvents = events(events, "hello.exception.ResolverInvoked");
+        assertThat(resolverEvents).extracting(e -> e.getString("resolver"))
+                .contains("UserHandlerExceptionResolver", "ExControllerAdvice#illegalHandler");
+        assertThat(resolverEvents).filteredOn(e -> e.getBoolean("resolved")).hasSizeGreaterThanOrEqualTo(2);
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+}
@@ -0,0 +1,61 @@
+package hello.exception.monitor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorMetricsTest {
+
+    @Test
+    void recordErrorsByHandlerExceptionAndStatus() {
+        ErrorMetrics errorMetrics = new ErrorMetrics(0.01);
+
+        errorMetrics.recordError(null, new IllegalArgumentException(), 400, 1_000);
+        errorMetrics.recordError(null, new IllegalArgumentException(), 400, 3_000);
+        errorMetrics.recordError(null, new RuntimeException(), 500, 2_000);
+
+        List<ErrorMetrics.ErrorStat> errors = errorMetrics.getErrors();
+        assertThat(errors).hasSize(2);
+        ErrorMetrics.ErrorStat first = errors.get(0);
+        assertThat(first.handler()).isEqualTo("(none)");
+        assertThat(first.exception()).isEqualTo(IllegalArgumentException.class.getName());
+        assertThat(first.status()).isEqualTo(400);
+        assertThat(first.count()).isEqualTo(2);
+        assertThat(first.avgResolveMicros()).isEqualTo(2);
+        assertThat(first.maxResolveMicros()).isEqualTo(3);
+    }
+
+    @Test
+    void errorBudgetCountsOnlyServerErrors() {
+        ErrorMetrics errorMetrics = new ErrorMetrics(0.1);
+        for (int i = 0; i < 100; i++) {
+            errorMetrics.recordRequest(null);
+        }
+        for (int i = 0; i < 20; i++) {
+            errorMetrics.recordError(null, new IllegalArgumentException(), 400, 0);
+        }
+        for (int i = 0; i < 5; i++) {
+            errorMetrics.recordError(null, new RuntimeException(), 500, 0);
+        }
+
+        ErrorMetrics.BudgetStat budget = errorMetrics.getBudgets().get(0);
+        assertThat(budget.requests1m()).isEqualTo(100);
+        assertThat(budget.serverErrors1m()).isEqualTo(5);
+        assertThat(budget.errorRatio()).isEqualTo(0.05);
+        assertThat(budget.budgetRemaining()).isEqualTo(0.5);
+    }
+
+    @Test
+    void slidingWindowSum() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(10);
+        for (int i = 0; i < 7; i++) {
+            counter.increment();
+        }
+
+        assertThat(counter.sum(10)).isEqualTo(7);
+        assertThat(counter.rate(10)).isEqualTo(0.7);
+    }
+
+}
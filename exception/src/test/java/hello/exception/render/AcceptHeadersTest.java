@@ -0,0 +1,34 @@
+package hello.exception.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptHeadersTest {
+
+    @Test
+    void prefersJson() {
+        assertThat(AcceptHeaders.prefersJson("application/json")).isTrue();
+        assertThat(AcceptHeaders.prefersJson("application/problem+json")).isTrue();
+        assertThat(AcceptHeaders.prefersJson("text/html;q=0.5, application/json")).isTrue();
+        assertThat(AcceptHeaders.prefersJson("text/html, application/json;q=0.9")).isFalse();
+        assertThat(AcceptHeaders.prefersJson("*/*")).isFalse();
+        assertThat(AcceptHeaders.prefersJson(null)).isFalse();
+    }
+
+    @Test
+    void acceptsHtml() {
+        assertThat(AcceptHeaders.acceptsHtml("text/html,application/xhtml+xml,*/*;q=0.8")).isTrue();
+        //BasicErrorController 의 produces = text/html 조건과 같이 text/* 도 HTML 로 본다
+        assertThat(AcceptHeaders.acceptsHtml("text/*")).isTrue();
+        assertThat(AcceptHeaders.acceptsHtml("*/*")).isFalse();
+        assertThat(AcceptHeaders.acceptsHtml("")).isFalse();
+    }
+
+    @Test
+    void invalidHeaderIsIgnored() {
+        assertThat(AcceptHeaders.prefersJson("not a media type")).isFalse();
+        assertThat(AcceptHeaders.acceptsHtml("not a media type")).isFalse();
+    }
+
+}
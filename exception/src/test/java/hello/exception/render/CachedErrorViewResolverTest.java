@@ -0,0 +1,107 @@
+package hello.exception.render;
+
+import hello.exception.ExceptionApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오류 페이지 캐시를 켰을 때와 껐을 때 본문이 바이트 단위로 같은지 비교한다
+ */
+class CachedErrorViewResolverTest {
+
+    static ServletWebServerApplicationContext cached;
+    static ServletWebServerApplicationContext uncached;
+    static final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void start() {
+        cached = start(true);
+        uncached = start(false);
+    }
+
+    @AfterAll
+    static void stop() {
+        if (cached != null) {
+            cached.close();
+        }
+        if (uncached != null) {
+            uncached.close();
+        }
+    }
+
+    @Test
+    void detectThymeleafProcessing() {
+        String html = "<html xmlns:th=\"http://www.thymeleaf.org\"><body>%s</body></html>";
+
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<p>오류 화면 입니다.</p>"))).isFalse();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<p th:text=\"${status}\"></p>"))).isTrue();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<p>[[${path}]]</p>"))).isTrue();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<p>#{error.bad}</p>"))).isTrue();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<a href=\"@{/}\">home</a>"))).isTrue();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<div th:replace=\"~{fragments :: footer}\"></div>"))).isTrue();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<th:block>text</th:block>"))).isTrue();
+        assertThat(CachedErrorViewResolver.containsProcessing(html.formatted("<p data-th-text=\"'a'\"></p>"))).isTrue();
+    }
+
+    //404: 표현식 없는 템플릿(캐시), 400: static/error/4xx.html(캐시), 500: 표현식 있는 템플릿(매번 렌더링)
+    @ParameterizedTest
+    @CsvSource({"/error-404, true", "/error-400, true", "/error-ex, false"})
+    void sameBytesAsUncached(String path, boolean cacheable) throws Exception {
+        HttpResponse<byte[]> expected = get(uncached, path, null);
+
+        //첫 요청(렌더링하면서 저장)과 이후 요청(저장한 바이트)이 모두 같아야 한다
+        for (int i = 0; i < 3; i++) {
+            HttpResponse<byte[]> actual = get(cached, path, null);
+            assertThat(actual.statusCode()).isEqualTo(expected.statusCode());
+            assertThat(normalize(actual.body())).isEqualTo(normalize(expected.body()));
+        }
+
+        //캐시된 페이지만 미리 압축한 본문으로 응답한다
+        HttpResponse<byte[]> gzip = get(cached, path, "gzip");
+        boolean gzipped = gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isPresent();
+        assertThat(gzipped).isEqualTo(cacheable);
+        byte[] body = gzipped ? new GZIPInputStream(new ByteArrayInputStream(gzip.body())).readAllBytes() : gzip.body();
+        assertThat(normalize(body)).isEqualTo(normalize(expected.body()));
+    }
+
+    private static ServletWebServerApplicationContext start(boolean enabled) {
+        return (ServletWebServerApplicationContext) new SpringApplicationBuilder(ExceptionApplication.class)
+                .run("--server.port=0",
+                        "--exception.error-page-cache.enabled=" + enabled,
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.hello.exception=warn");
+    }
+
+    private static HttpResponse<byte[]> get(ServletWebServerApplicationContext context, String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + context.getWebServer().getPort() + path))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_HTML_VALUE)
+                .GET();
+        if (acceptEncoding != null) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    //요청마다 달라지는 timestamp 만 지운다 (error/500.html)
+    private static String normalize(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8).replaceAll("timestamp: [^<]*", "timestamp: ");
+    }
+
+}
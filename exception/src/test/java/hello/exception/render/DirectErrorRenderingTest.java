@@ -0,0 +1,125 @@
+package hello.exception.render;
+
+import hello.exception.ExceptionApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * exception.error-rendering=direct 가 기본 dispatch(ERROR 디스패치)와 같은 응답을 만드는지 비교한다
+ * - ERROR 디스패치는 서블릿 컨테이너가 하므로 MockMvc 가 아니라 두 모드의 실제 서버를 띄워 요청한다
+ * - 요청마다 달라지는 timestamp 만 지우고 상태 코드, 주요 헤더, 본문을 비교한다
+ */
+class DirectErrorRenderingTest {
+
+    static final List<String> PATHS = List.of(
+            "/error-ex", "/error-404", "/error-400", "/error-500",
+            "/api/members/ex", "/api/members/bad", "/api/members/user-ex", "/api/response-status-ex1");
+    static final List<String> ACCEPTS = List.of(MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_HTML_VALUE);
+    static final List<String> HEADERS = List.of(HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_ENCODING, HttpHeaders.VARY);
+
+    static ServletWebServerApplicationContext dispatch;
+    static ServletWebServerApplicationContext direct;
+    static final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void start() {
+        dispatch = start("dispatch");
+        direct = start("direct");
+    }
+
+    @AfterAll
+    static void stop() {
+        if (dispatch != null) {
+            dispatch.close();
+        }
+        if (direct != null) {
+            direct.close();
+        }
+    }
+
+    static Stream<Arguments> requests() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (String path : PATHS) {
+            for (String accept : ACCEPTS) {
+                arguments.add(Arguments.of(path, accept));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0} Accept: {1}")
+    @MethodSource("requests")
+    void sameResponse(String path, String accept) throws Exception {
+        HttpResponse<String> expected = get(dispatch, path, accept);
+        HttpResponse<String> actual = get(direct, path, accept);
+
+        assertThat(actual.statusCode()).isEqualTo(expected.statusCode());
+        assertThat(contentType(actual)).isEqualTo(contentType(expected));
+        for (String header : HEADERS) {
+            assertThat(actual.headers().allValues(header)).as(header).isEqualTo(expected.headers().allValues(header));
+        }
+        assertThat(normalize(actual.body())).isEqualTo(normalize(expected.body()));
+    }
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    void logsUnhandledException(CapturedOutput output) throws Exception {
+        //dispatch 모드에서 컨테이너가 남기는 것처럼 direct 모드도 스택 트레이스와 함께 ERROR 로그를 남긴다
+        HttpResponse<String> response = get(direct, "/error-ex", MediaType.TEXT_HTML_VALUE);
+
+        assertThat(response.statusCode()).isEqualTo(500);
+        assertThat(output.getOut()).contains("ERROR")
+                .contains("Servlet.service() for [/error-ex] threw exception")
+                .contains("java.lang.RuntimeException: 예외 발생!")
+                .contains("at hello.exception.servlet.ServletExceptionController.errorEx");
+    }
+
+    private static ServletWebServerApplicationContext start(String rendering) {
+        return (ServletWebServerApplicationContext) new SpringApplicationBuilder(ExceptionApplication.class)
+                .run("--server.port=0",
+                        "--exception.error-rendering=" + rendering,
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.hello.exception=warn");
+    }
+
+    private static HttpResponse<String> get(ServletWebServerApplicationContext context, String path, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + context.getWebServer().getPort() + path))
+                .header(HttpHeaders.ACCEPT, accept)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String contentType(HttpResponse<String> response) {
+        return response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                .map(value -> MediaType.parseMediaType(value).toString())
+                .orElse(null);
+    }
+
+    private static String normalize(String body) {
+        return body.replaceAll("\"timestamp\":\"[^\"]*\"", "\"timestamp\":\"\"")
+                .replaceAll("timestamp: [^<]*", "timestamp: ");
+    }
+
+}
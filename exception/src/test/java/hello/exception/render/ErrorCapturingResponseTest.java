@@ -0,0 +1,67 @@
+package hello.exception.render;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErrorCapturingResponseTest {
+
+    @Test
+    void capturesSendErrorWithoutCommitting() throws Exception {
+        MockHttpServletResponse target = new MockHttpServletResponse();
+        ErrorCapturingResponse response = new ErrorCapturingResponse(target);
+        response.getWriter().write("partial");
+
+        response.sendError(400, "잘못된 요청");
+
+        assertThat(response.isErrorSent()).isTrue();
+        assertThat(response.getErrorStatus()).isEqualTo(400);
+        assertThat(response.getErrorMessage()).isEqualTo("잘못된 요청");
+        //컨테이너 sendError 와 달리 원래 응답은 커밋되지 않고 버퍼만 비운다
+        assertThat(target.isCommitted()).isFalse();
+        assertThat(target.getStatus()).isEqualTo(400);
+        assertThat(target.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void ignoresChangesAfterSendError() throws Exception {
+        MockHttpServletResponse target = new MockHttpServletResponse();
+        ErrorCapturingResponse response = new ErrorCapturingResponse(target);
+
+        String characterEncoding = target.getCharacterEncoding();
+        Locale locale = target.getLocale();
+
+        response.sendError(404);
+        response.setStatus(200);
+        response.setHeader("X-After", "value");
+        response.setContentType("application/json");
+        response.setIntHeader("X-Int", 1);
+        response.addIntHeader("X-Int", 2);
+        response.setDateHeader("X-Date", 0);
+        response.addDateHeader("X-Date", 0);
+        response.setCharacterEncoding("ISO-8859-1");
+        response.setLocale(Locale.KOREA);
+        response.reset();
+        response.resetBuffer();
+        response.getOutputStream().write("body".getBytes());
+        response.getWriter().write("body");
+        response.getWriter().flush();
+        response.flushBuffer();
+
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(target.getStatus()).isEqualTo(404);
+        assertThat(target.getHeader("X-After")).isNull();
+        assertThat(target.getContentType()).isNull();
+        assertThat(target.getHeaderNames()).isEmpty();
+        assertThat(target.getCharacterEncoding()).isEqualTo(characterEncoding);
+        assertThat(target.getLocale()).isEqualTo(locale);
+        assertThat(target.getContentAsByteArray()).isEmpty();
+        assertThat(target.isCommitted()).isFalse();
+        assertThatThrownBy(() -> response.sendError(500)).isInstanceOf(IllegalStateException.class);
+    }
+
+}
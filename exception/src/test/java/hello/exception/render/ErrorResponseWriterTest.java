@@ -0,0 +1,58 @@
+package hello.exception.render;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.exception.exception.UserException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    ErrorResponseWriter writer = new ErrorResponseWriter();
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writeException() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeException(response, 400, new UserException("사용자 \"오류\""));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=utf-8");
+        assertThat(objectMapper.readValue(response.getContentAsByteArray(), new TypeReference<Map<String, Object>>() {}))
+                .containsEntry("ex", UserException.class.getName())
+                .containsEntry("message", "사용자 \"오류\"");
+    }
+
+    @Test
+    void writeStatus() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeStatus(response, 500, null);
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getContentAsString()).isEqualTo("{\"status\":500,\"message\":null}");
+    }
+
+    @Test
+    void sameOutputAsObjectMapper() throws Exception {
+        //캐시된 인코딩을 다시 써도 ObjectMapper 결과와 같아야 한다
+        for (int i = 0; i < 2; i++) {
+            for (String message : new String[]{"잘못된 입력 값", "tab\tnew\nline", " "}) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                IllegalArgumentException ex = new IllegalArgumentException(message);
+
+                writer.writeException(response, 400, ex);
+
+                String expected = objectMapper.writeValueAsString(Map.of("ex", ex.getClass().getName()))
+                        .replace("}", ",\"message\":" + objectMapper.writeValueAsString(message) + "}");
+                assertThat(response.getContentAsString()).isEqualTo(expected);
+            }
+        }
+    }
+
+}
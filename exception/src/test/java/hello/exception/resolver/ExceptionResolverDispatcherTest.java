@@ -0,0 +1,155 @@
+package hello.exception.resolver;
+
+import hello.exception.exception.ClientErrorException;
+import hello.exception.exception.UserException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionResolverDispatcherTest {
+
+    @Test
+    void countsHitsAndMisses() {
+        StubResolver resolver = new StubResolver("user", true, UserException.class);
+        ExceptionResolverDispatcher dispatcher = new ExceptionResolverDispatcher(List.of(resolver));
+
+        dispatcher.resolversFor(UserException.class);
+        dispatcher.resolversFor(UserException.class);
+        dispatcher.resolversFor(UserException.class);
+        dispatcher.resolversFor(IllegalStateException.class);
+
+        assertThat(dispatcher.getMisses()).isEqualTo(2);
+        assertThat(dispatcher.getHits()).isEqualTo(2);
+        assertThat(dispatcher.getHitRate()).isEqualTo(0.5);
+        assertThat(dispatcher.getCachedExceptionTypes()).isEqualTo(2);
+    }
+
+    @Test
+    void unmatchedExceptionIsCachedAsEmpty() {
+        ExceptionResolverDispatcher dispatcher = new ExceptionResolverDispatcher(List.of(
+                new StubResolver("user", true, UserException.class)));
+
+        assertThat(dispatcher.resolversFor(IllegalStateException.class)).isEmpty();
+        assertThat(dispatcher.resolversFor(IllegalStateException.class)).isEmpty();
+        assertThat(dispatcher.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void parentClassLookup() {
+        StubResolver runtime = new StubResolver("runtime", true, RuntimeException.class);
+        StubResolver clientError = new StubResolver("clientError", true, ClientErrorException.class);
+        StubResolver illegalArgument = new StubResolver("illegalArgument", true, IllegalArgumentException.class);
+        ExceptionResolverDispatcher dispatcher = new ExceptionResolverDispatcher(List.of(runtime, clientError, illegalArgument));
+
+        //UserException -> ClientErrorException(1) -> RuntimeException(2), 가까운 타입을 선언한 리졸버가 먼저
+        assertThat(dispatcher.resolversFor(UserException.class)).containsExactly(clientError, runtime);
+        //NumberFormatException -> IllegalArgumentException(1) -> RuntimeException(2)
+        assertThat(dispatcher.resolversFor(NumberFormatException.class)).containsExactly(illegalArgument, runtime);
+        assertThat(dispatcher.resolversFor(IllegalStateException.class)).containsExactly(runtime);
+        assertThat(dispatcher.resolversFor(Exception.class)).isEmpty();
+    }
+
+    @Test
+    void interfaceLookup() {
+        StubResolver marker = new StubResolver("marker", true, Marker.class);
+        StubResolver runtime = new StubResolver("runtime", true, RuntimeException.class);
+        StubResolver inherited = new StubResolver("inherited", true, MarkedException.class);
+        ExceptionResolverDispatcher dispatcher = new ExceptionResolverDispatcher(List.of(runtime, marker, inherited));
+
+        //MarkedException -> Marker(1), RuntimeException(1), 같은 거리는 등록 순서
+        assertThat(dispatcher.resolversFor(MarkedException.class)).containsExactly(inherited, runtime, marker);
+        //ChildMarkedException -> MarkedException(1) -> Marker(2), RuntimeException(2)
+        assertThat(dispatcher.resolversFor(ChildMarkedException.class)).containsExactly(inherited, runtime, marker);
+        //인터페이스의 부모 인터페이스도 찾는다: SubMarkedException -> SubMarker(1) -> Marker(2)
+        assertThat(dispatcher.resolversFor(SubMarkedException.class)).containsExactly(runtime, marker);
+        assertThat(dispatcher.resolversFor(IllegalStateException.class)).containsExactly(runtime);
+    }
+
+    @Test
+    void sameDistanceKeepsRegistrationOrder() {
+        StubResolver first = new StubResolver("first", true, UserException.class);
+        StubResolver second = new StubResolver("second", true, UserException.class);
+        ExceptionResolverDispatcher dispatcher = new ExceptionResolverDispatcher(List.of(second, first));
+
+        assertThat(dispatcher.resolversFor(UserException.class)).containsExactly(second, first);
+    }
+
+    @Test
+    void resolveStopsAtFirstResolvedModelAndView() {
+        List<String> invoked = new ArrayList<>();
+        StubResolver declining = new StubResolver("declining", false, invoked, UserException.class);
+        StubResolver resolving = new StubResolver("resolving", true, invoked, ClientErrorException.class);
+        StubResolver fallback = new StubResolver("fallback", true, invoked, RuntimeException.class);
+        ExceptionResolverDispatcher dispatcher = new ExceptionResolverDispatcher(List.of(fallback, resolving, declining));
+
+        ModelAndView mav = dispatcher.resolveException(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                null, new UserException("사용자 오류"));
+
+        assertThat(mav).isNotNull();
+        assertThat(invoked).containsExactly("declining", "resolving");
+        assertThat(dispatcher.resolveException(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                null, new Exception())).isNull();
+    }
+
+    interface Marker {
+    }
+
+    interface SubMarker extends Marker {
+    }
+
+    static class MarkedException extends RuntimeException implements Marker {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class ChildMarkedException extends MarkedException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class SubMarkedException extends RuntimeException implements SubMarker {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class StubResolver implements TypedHandlerExceptionResolver {
+
+        private final String name;
+        private final boolean resolves;
+        private final List<String> invoked;
+        private final List<Class<?>> types;
+
+        StubResolver(String name, boolean resolves, Class<?>... types) {
+            this(name, resolves, new ArrayList<>(), types);
+        }
+
+        StubResolver(String name, boolean resolves, List<String> invoked, Class<?>... types) {
+            this.name = name;
+            this.resolves = resolves;
+            this.invoked = invoked;
+            this.types = List.of(types);
+        }
+
+        @Override
+        public List<Class<?>> getExceptionTypes() {
+            return types;
+        }
+
+        @Override
+        public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+            invoked.add(name);
+            return resolves ? new ModelAndView() : null;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package hello.exception.trace;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineRecorderTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void samplesByStatus() {
+        TimelineRecorder recorder = new TimelineRecorder(objectMapper, 0.0, 1.0, 10);
+
+        recorder.finish(timeline("ok", 200));
+        recorder.finish(timeline("bad", 400));
+        recorder.finish(timeline("ex", 500));
+
+        assertThat(recorder.getLines()).hasSize(2)
+                .allMatch(line -> !line.contains("\"id\":\"ok\""));
+    }
+
+    @Test
+    void keepsMostRecentLines() throws Exception {
+        TimelineRecorder recorder = new TimelineRecorder(objectMapper, 1.0, 1.0, 3);
+
+        for (int i = 0; i < 5; i++) {
+            recorder.finish(timeline("t" + i, 200));
+        }
+
+        List<String> lines = recorder.getLines();
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asText()).isEqualTo("t2");
+        assertThat(objectMapper.readTree(lines.get(2)).get("id").asText()).isEqualTo("t4");
+    }
+
+    @Test
+    void recordsRequestAndErrorDispatches() throws Exception {
+        TimelineRecorder recorder = new TimelineRecorder(objectMapper, 1.0, 1.0, 10);
+        RequestTimeline timeline = new RequestTimeline("id", "GET", "/error-ex");
+        timeline.mark("request.start", DispatcherType.REQUEST);
+        timeline.mark("filter.start", DispatcherType.REQUEST);
+        timeline.mark("filter.start", DispatcherType.ERROR);
+        timeline.mark("request.end", DispatcherType.ERROR);
+        timeline.setStatus(500);
+
+        recorder.finish(timeline);
+
+        JsonNode record = objectMapper.readTree(recorder.getLines().get(0));
+        assertThat(record.get("status").asInt()).isEqualTo(500);
+        assertThat(record.get("events")).hasSize(4);
+        assertThat(record.get("events").get(2).get("dispatch").asText()).isEqualTo("ERROR");
+    }
+
+    private static RequestTimeline timeline(String id, int status) {
+        RequestTimeline timeline = new RequestTimeline(id, "GET", "/" + id);
+        timeline.mark("request.start", DispatcherType.REQUEST);
+        timeline.setStatus(status);
+        return timeline;
+    }
+
+}
@@ -0,0 +1,19 @@
+package hello.typeconverter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 스프링 없이 컨버터만 만들어 쓰는 벤치마크용 (logback 기본 설정은 DEBUG 콘솔 출력이라 로그 비용이 결과를 덮는다)
+ */
+public final class BenchmarkLogging {
+
+    private BenchmarkLogging() {
+    }
+
+    public static void off() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    }
+
+}
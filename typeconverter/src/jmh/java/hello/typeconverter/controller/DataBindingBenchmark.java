@@ -0,0 +1,86 @@
+package hello.typeconverter.controller;
+
+import hello.typeconverter.TypeconverterApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ModelAttribute 바인딩 한 번의 비용 (요청 파라미터 > 폼 객체)
+ * - 애플리케이션 컨텍스트를 띄워 스프링 MVC 가 실제로 쓰는 WebBindingInitializer(mvcConversionService, WebConfig 등록 컨버터)로 바인딩한다
+ * - converterForm: ConverterController.Form (생성자 바인딩, String > IpPort)
+ * - formatterForm: FormatterController.Form (setter 바인딩, @NumberFormat, @DateTimeFormat)
+ * - conversionCache: typeconverter.conversion-cache.enabled
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataBindingBenchmark {
+
+    @Param({"false", "true"})
+    String conversionCache;
+
+    private ConfigurableApplicationContext context;
+    private final ServletModelAttributeMethodProcessor processor = new ServletModelAttributeMethodProcessor(false);
+    private WebDataBinderFactory binderFactory;
+    private MethodParameter converterForm;
+    private MethodParameter formatterForm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        SpringApplication application = new SpringApplication(TypeconverterApplication.class);
+        application.setWebApplicationType(WebApplicationType.SERVLET);
+        context = application.run(
+                "--server.port=0",
+                "--typeconverter.conversion-cache.enabled=" + conversionCache,
+                "--logging.level.root=off");
+        RequestMappingHandlerAdapter adapter = context.getBean(RequestMappingHandlerAdapter.class);
+        binderFactory = new ServletRequestDataBinderFactory(null, adapter.getWebBindingInitializer());
+        converterForm = new MethodParameter(
+                ConverterController.class.getMethod("converterEdit", ConverterController.Form.class, Model.class), 0);
+        formatterForm = new MethodParameter(
+                FormatterController.class.getMethod("formatterEdit", FormatterController.Form.class), 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object converterForm() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/converter/edit");
+        request.addParameter("ipPort", "127.0.0.1:8080");
+        return processor.resolveArgument(converterForm, new ModelAndViewContainer(), new ServletWebRequest(request), binderFactory);
+    }
+
+    @Benchmark
+    public Object formatterForm() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/formatter/edit");
+        request.addParameter("number", "10,000");
+        request.addParameter("localDateTime", "2023-08-01 12:30:15");
+        return processor.resolveArgument(formatterForm, new ModelAndViewContainer(), new ServletWebRequest(request), binderFactory);
+    }
+
+}
@@ -0,0 +1,94 @@
+package hello.typeconverter.conversion;
+
+import hello.typeconverter.BenchmarkLogging;
+import hello.typeconverter.converter.StringToIpPortConverter;
+import hello.typeconverter.type.IpPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폼의 같은 이름 여러 값(String[]) -> List 변환 비용
+ * - sequential: 스프링 기본 ArrayToCollectionConverter (요청 스레드에서 하나씩)
+ * - parallel: ParallelCollectionConverter (threshold 256, CPU 수(최소 2) 만큼의 풀, CPU 가 하나면 나눈 비용만 보인다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelCollectionConverterBenchmark {
+
+    private static final TypeDescriptor STRINGS = TypeDescriptor.valueOf(String[].class);
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    @NumberFormat(pattern = "###,###")
+    private List<Integer> numbers;
+
+    private List<IpPort> ipPorts;
+
+    private final DefaultFormattingConversionService sequential = new DefaultFormattingConversionService();
+    private final DefaultFormattingConversionService parallel = new DefaultFormattingConversionService();
+    private final ForkJoinPool pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    private TypeDescriptor ipPortsType;
+    private TypeDescriptor numbersType;
+    private String[] ipPortValues;
+    private String[] numberValues;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        BenchmarkLogging.off();
+        sequential.addConverter(new StringToIpPortConverter(0));
+        parallel.addConverter(new StringToIpPortConverter(0));
+        parallel.addConverter(new ParallelCollectionConverter(parallel, pool, 256));
+
+        ipPortsType = new TypeDescriptor(ParallelCollectionConverterBenchmark.class.getDeclaredField("ipPorts"));
+        numbersType = new TypeDescriptor(ParallelCollectionConverterBenchmark.class.getDeclaredField("numbers"));
+        ipPortValues = new String[size];
+        numberValues = new String[size];
+        for (int i = 0; i < size; i++) {
+            ipPortValues[i] = "192.168." + (i / 256 % 256) + "." + (i % 256) + ":" + (8000 + i % 1000);
+            numberValues[i] = String.format("%,d", i * 1000);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Object ipPortsSequential() {
+        return sequential.convert(ipPortValues, STRINGS, ipPortsType);
+    }
+
+    @Benchmark
+    public Object ipPortsParallel() {
+        return parallel.convert(ipPortValues, STRINGS, ipPortsType);
+    }
+
+    @Benchmark
+    public Object numbersSequential() {
+        return sequential.convert(numberValues, STRINGS, numbersType);
+    }
+
+    @Benchmark
+    public Object numbersParallel() {
+        return parallel.convert(numberValues, STRINGS, numbersType);
+    }
+
+}
@@ -0,0 +1,72 @@
+package hello.typeconverter.converter;
+
+import hello.typeconverter.BenchmarkLogging;
+import hello.typeconverter.type.IpPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultConversionService 를 거친 변환 비용 (ConversionServiceTest 와 같은 등록)
+ * - 컨버터 직접 호출(ConverterBenchmark)과의 차이가 (소스, 대상) 타입 쌍으로 컨버터를 찾는 비용
+ * - typeDescriptor: 호출마다 TypeDescriptor 를 만들지 않을 때 (데이터 바인딩은 필드별 TypeDescriptor 를 쓴다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversionServiceBenchmark {
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+    private static final TypeDescriptor IP_PORT = TypeDescriptor.valueOf(IpPort.class);
+
+    private final DefaultConversionService conversionService = new DefaultConversionService();
+    private final IpPort ipPort = new IpPort("127.0.0.1", 8080);
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.off();
+        conversionService.addConverter(new StringToIntegerConverter());
+        conversionService.addConverter(new IntegerToStringConverter());
+        conversionService.addConverter(new StringToIpPortConverter());
+        conversionService.addConverter(new IpPortToStringConverter());
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return conversionService.convert("10000", Integer.class);
+    }
+
+    @Benchmark
+    public String integerToString() {
+        return conversionService.convert(10000, String.class);
+    }
+
+    @Benchmark
+    public IpPort stringToIpPort() {
+        return conversionService.convert("127.0.0.1:8080", IpPort.class);
+    }
+
+    @Benchmark
+    public Object stringToIpPortTypeDescriptor() {
+        return conversionService.convert("127.0.0.1:8080", STRING, IP_PORT);
+    }
+
+    @Benchmark
+    public String ipPortToString() {
+        return conversionService.convert(ipPort, String.class);
+    }
+
+    @Benchmark
+    public boolean canConvert() {
+        return conversionService.canConvert(STRING, IP_PORT);
+    }
+
+}
@@ -0,0 +1,61 @@
+package hello.typeconverter.converter;
+
+import hello.typeconverter.BenchmarkLogging;
+import hello.typeconverter.type.IpPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨버터 직접 호출 비용 (ConversionService 를 거치지 않는 기준값)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+    private final StringToIntegerConverter stringToInteger = new StringToIntegerConverter();
+    private final IntegerToStringConverter integerToString = new IntegerToStringConverter();
+    private final StringToIpPortConverter stringToIpPort = new StringToIpPortConverter();
+    private final IpPortToStringConverter ipPortToString = new IpPortToStringConverter();
+
+    private final IpPort ipPort = new IpPort("127.0.0.1", 8080);
+    private final IpPort ipv6Port = new IpPort("2001:db8::1", 8080);
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.off();
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return stringToInteger.convert("10000");
+    }
+
+    @Benchmark
+    public String integerToString() {
+        return integerToString.convert(10000);
+    }
+
+    @Benchmark
+    public IpPort stringToIpPort() {
+        return stringToIpPort.convert("127.0.0.1:8080");
+    }
+
+    @Benchmark
+    public String ipPortToString() {
+        return ipPortToString.convert(ipPort);
+    }
+
+    @Benchmark
+    public String ipv6PortToString() {
+        return ipPortToString.convert(ipv6Port);
+    }
+
+}
@@ -0,0 +1,62 @@
+package hello.typeconverter.converter;
+
+import hello.typeconverter.type.IpPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "ip:port" 문자열 변환 비용 비교 (입력 16개를 돌아가며 변환)
+ * - split: 변경 전 StringToIpPortConverter 와 같은 split(":") 방식 (INFO 로그는 빼고 변환 비용만)
+ *   지금의 IpPort 생성자는 주소를 다시 파싱하므로, 변경 전 IpPort 처럼 String ip + int port 만 담는 SplitIpPort 를 만든다
+ * - parse: 한 번만 훑는 파서 (캐시 없음)
+ * - converter: 파서 + 같은 문자열 캐시 (폼 바인딩에서 같은 값이 반복되는 경우)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringToIpPortConverterBenchmark {
+
+    private final String[] sources = new String[16];
+    private final StringToIpPortConverter converter = new StringToIpPortConverter();
+    private int index;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < sources.length; i++) {
+            //매번 새 문자열 (String 리터럴 캐시 효과를 빼기 위해)
+            sources[i] = new String("192.168." + i + ".10:" + (8080 + i));
+        }
+    }
+
+    private String next() {
+        return sources[index++ & (sources.length - 1)];
+    }
+
+    @Benchmark
+    public SplitIpPort split() {
+        String[] split = next().split(":");
+        return new SplitIpPort(split[0], Integer.parseInt(split[1]));
+    }
+
+    @Benchmark
+    public IpPort parse() {
+        return StringToIpPortConverter.parse(next());
+    }
+
+    @Benchmark
+    public IpPort converter() {
+        return converter.convert(next());
+    }
+
+    //변경 전 IpPort 와 같은 필드 구성 (검증 없음)
+    public record SplitIpPort(String ip, int port) {
+    }
+
+}
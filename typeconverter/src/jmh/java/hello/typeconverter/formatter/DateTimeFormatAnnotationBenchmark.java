@@ -0,0 +1,85 @@
+package hello.typeconverter.formatter;
+
+import hello.typeconverter.BenchmarkLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @DateTimeFormat(pattern) 필드 변환: 스프링 기본 팩토리 vs CachedDateTimeFormatAnnotationFormatterFactory
+ * - dateTime*: FormatterController.Form 과 같은 "yyyy-MM-dd HH:mm:ss" (고정 폭, 직접 읽고 쓰기)
+ * - monthName*: "dd MMM yyyy" (고정 폭이 아님, 두 쪽 모두 스프링 기본 포맷터)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeFormatAnnotationBenchmark {
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+
+    @Param({"default", "cached"})
+    String factory;
+
+    private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+    private final LocalDateTime localDateTime = LocalDateTime.of(2023, 8, 1, 12, 30, 15);
+    private final LocalDate localDate = LocalDate.of(2023, 8, 1);
+
+    private TypeDescriptor dateTimeField;
+    private TypeDescriptor monthNameField;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        BenchmarkLogging.off();
+        if (factory.equals("cached")) {
+            conversionService.addFormatterForFieldAnnotation(new CachedDateTimeFormatAnnotationFormatterFactory());
+        }
+        dateTimeField = new TypeDescriptor(Form.class.getDeclaredField("dateTime"));
+        monthNameField = new TypeDescriptor(Form.class.getDeclaredField("monthName"));
+        LocaleContextHolder.setLocale(Locale.KOREA);
+    }
+
+    @Benchmark
+    public Object dateTimeParse() {
+        return conversionService.convert("2023-08-01 12:30:15", STRING, dateTimeField);
+    }
+
+    @Benchmark
+    public Object dateTimePrint() {
+        return conversionService.convert(localDateTime, dateTimeField, STRING);
+    }
+
+    @Benchmark
+    public Object monthNameParse() {
+        return conversionService.convert("01 8월 2023", STRING, monthNameField);
+    }
+
+    @Benchmark
+    public Object monthNamePrint() {
+        return conversionService.convert(localDate, monthNameField, STRING);
+    }
+
+    static class Form {
+
+        @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime dateTime;
+
+        @DateTimeFormat(pattern = "dd MMM yyyy")
+        private LocalDate monthName;
+
+    }
+
+}
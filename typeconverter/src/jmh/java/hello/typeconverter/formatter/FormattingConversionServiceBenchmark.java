@@ -0,0 +1,95 @@
+package hello.typeconverter.formatter;
+
+import hello.typeconverter.BenchmarkLogging;
+import hello.typeconverter.converter.IpPortToStringConverter;
+import hello.typeconverter.converter.StringToIpPortConverter;
+import hello.typeconverter.type.IpPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultFormattingConversionService 에 컨버터와 MyNumberFormatter 를 등록했을 때 (FormattingConversionServiceTest 와 같은 등록)
+ * - number*: MyNumberFormatter (Number <-> String)
+ * - annotated*: FormatterController.Form 과 같은 @NumberFormat, @DateTimeFormat 필드로 변환 (애노테이션 기반 포맷터)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormattingConversionServiceBenchmark {
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+
+    private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+    private final LocalDateTime localDateTime = LocalDateTime.of(2023, 8, 1, 12, 30, 15);
+
+    private TypeDescriptor numberField;
+    private TypeDescriptor localDateTimeField;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        BenchmarkLogging.off();
+        conversionService.addConverter(new StringToIpPortConverter());
+        conversionService.addConverter(new IpPortToStringConverter());
+        conversionService.addFormatter(new MyNumberFormatter());
+        numberField = new TypeDescriptor(Form.class.getDeclaredField("number"));
+        localDateTimeField = new TypeDescriptor(Form.class.getDeclaredField("localDateTime"));
+    }
+
+    @Benchmark
+    public IpPort stringToIpPort() {
+        return conversionService.convert("127.0.0.1:8080", IpPort.class);
+    }
+
+    @Benchmark
+    public String numberPrint() {
+        return conversionService.convert(10000, String.class);
+    }
+
+    @Benchmark
+    public Long numberParse() {
+        return conversionService.convert("10,000", Long.class);
+    }
+
+    @Benchmark
+    public Object annotatedNumberParse() {
+        return conversionService.convert("10,000", STRING, numberField);
+    }
+
+    @Benchmark
+    public Object annotatedNumberPrint() {
+        return conversionService.convert(10000, numberField, STRING);
+    }
+
+    @Benchmark
+    public Object annotatedDateTimeParse() {
+        return conversionService.convert("2023-08-01 12:30:15", STRING, localDateTimeField);
+    }
+
+    @Benchmark
+    public Object annotatedDateTimePrint() {
+        return conversionService.convert(localDateTime, localDateTimeField, STRING);
+    }
+
+    static class Form {
+
+        @NumberFormat(pattern = "###,###")
+        private Integer number;
+
+        @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime localDateTime;
+
+    }
+
+}
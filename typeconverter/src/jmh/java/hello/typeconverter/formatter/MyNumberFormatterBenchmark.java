@@ -0,0 +1,73 @@
+package hello.typeconverter.formatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyNumberFormatter parse/print 비용 비교 (8 스레드가 같은 포맷터 인스턴스를 같이 사용)
+ * - legacy: 변경 전과 같이 호출마다 NumberFormat.getInstance(locale) (INFO 로그는 빼고 형식 비용만)
+ * - current: 로케일별 template + 정수 직접 처리
+ * - decimal: 소수는 current 도 template 복제 경로를 탄다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class MyNumberFormatterBenchmark {
+
+    @Param({"ko_KR", "de_DE"})
+    String localeTag;
+
+    private Locale locale;
+    private String text;
+    private final MyNumberFormatter formatter = new MyNumberFormatter();
+
+    @Setup
+    public void setUp() {
+        locale = Locale.forLanguageTag(localeTag.replace('_', '-'));
+        text = NumberFormat.getInstance(locale).format(1234567);
+    }
+
+    @Benchmark
+    public Number legacyParse() throws ParseException {
+        return NumberFormat.getInstance(locale).parse(text);
+    }
+
+    @Benchmark
+    public Number currentParse() throws ParseException {
+        return formatter.parse(text, locale);
+    }
+
+    @Benchmark
+    public String legacyPrint() {
+        return NumberFormat.getInstance(locale).format(1234567);
+    }
+
+    @Benchmark
+    public String currentPrint() {
+        return formatter.print(1234567, locale);
+    }
+
+    @Benchmark
+    public String legacyPrintDecimal() {
+        return NumberFormat.getInstance(locale).format(1234.5);
+    }
+
+    @Benchmark
+    public String currentPrintDecimal() {
+        return formatter.print(1234.5, locale);
+    }
+
+}
@@ -4,6 +4,7 @@ import hello.typeconverter.converter.IntegerToStringConverter;
 import hello.typeconverter.converter.IpPortToStringConverter;
 import hello.typeconverter.converter.StringToIntegerConverter;
 import hello.typeconverter.converter.StringToIpPortConverter;
+import hello.typeconverter.formatter.CachedDateTimeFormatAnnotationFormatterFactory;
 import hello.typeconverter.formatter.MyNumberFormatter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
@@ -26,6 +27,9 @@ public class WebConfig implements WebMvcConfigurer {
 
         //포맷터 추가
 //        registry.addFormatter(new MyNumberFormatter());
+
+        //@DateTimeFormat(pattern) 필드는 캐시한 포맷터로 (나중에 등록한 쪽이 스프링 기본보다 우선)
+        registry.addFormatterForFieldAnnotation(new CachedDateTimeFormatAnnotationFormatterFactory());
     }
 
 }
@@ -4,9 +4,12 @@ import hello.typeconverter.type.IpPort;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @Slf4j
 public class HelloController {
@@ -38,4 +41,14 @@ public class HelloController {
         return "ok";
     }
 
+    /**
+     * - 같은 이름으로 여러 값을 보내면(ipPorts=..&ipPorts=..) String[] -> List<IpPort> 로 변환한다
+     * - 요소가 많으면 ParallelCollectionConverter 가 나눠서 변환한다
+     */
+    @PostMapping("/ip-ports")
+    public String ipPorts(@RequestParam List<IpPort> ipPorts) {
+        System.out.println("ipPorts size = " + ipPorts.size());
+        return "ok";
+    }
+
 }
@@ -0,0 +1,191 @@
+package hello.typeconverter.conversion;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.util.StringValueResolver;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 변환 결과를 캐시하는 FormattingConversionService 데코레이터
+ * - (소스 타입, 대상 타입 + 필드 애노테이션(@NumberFormat, @DateTimeFormat ...), 입력 값, 로케일) 별로 결과를 기억한다
+ *   포맷터는 요청 로케일(LocaleContextHolder)에 따라 결과가 달라지므로 ("10,000" 은 en_US 에서 10000, de_DE 에서 10)
+ *   java.time 이 들어가는 변환은 시간대도 키에 넣는다
+ * - 입력 값과 대상 타입이 모두 불변 타입일 때만 캐시한다 (가변 객체를 여러 요청이 나눠 쓰면 안 되므로)
+ * - 한도를 넘으면 캐시를 비우고 다시 채운다, 변환 실패(예외)는 캐시하지 않는다
+ * - 컨버터 등록/삭제는 원래 서비스로 넘기고 캐시를 비운다
+ */
+public class CachingConversionService extends FormattingConversionService {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class, Locale.class, Charset.class);
+    private static final Object NULL = new Object();
+
+    private final FormattingConversionService delegate;
+    private final int maxSize;
+    private final Set<Class<?>> immutableTypes;
+
+    private final Map<Key, Object> cache = new ConcurrentHashMap<>();
+    private final Map<Pair, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param immutableTypes 기본(String, 숫자 래퍼, java.time, enum ...) 외에 캐시해도 되는 불변 타입 (예: IpPort)
+     */
+    public CachingConversionService(FormattingConversionService delegate, int maxSize, Set<Class<?>> immutableTypes) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.immutableTypes = Set.copyOf(immutableTypes);
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null || sourceType == null || !isImmutable(source.getClass()) || !isImmutable(targetType.getObjectType())) {
+            return delegate.convert(source, sourceType, targetType);
+        }
+        Stats stat = stats(sourceType, targetType);
+        Key key = new Key(sourceType, targetType, source, LocaleContextHolder.getLocale(),
+                isTime(sourceType) || isTime(targetType) ? LocaleContextHolder.getTimeZone() : null);
+        Object cached = cache.get(key);
+        if (cached != null) {
+            stat.hits.increment();
+            return cached == NULL ? null : cached;
+        }
+        stat.misses.increment();
+        Object result = delegate.convert(source, sourceType, targetType);
+        if (result != null && !isImmutable(result.getClass())) {
+            return result;
+        }
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.put(key, result == null ? NULL : result);
+        return result;
+    }
+
+    private boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type) || immutableTypes.contains(type)
+                || type.getPackageName().equals("java.time");
+    }
+
+    private static boolean isTime(TypeDescriptor type) {
+        return type.getObjectType().getPackageName().equals("java.time");
+    }
+
+    private Stats stats(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        Pair pair = new Pair(sourceType, targetType);
+        Stats stat = stats.get(pair);
+        if (stat == null) {
+            stat = stats.computeIfAbsent(pair, Stats::new);
+        }
+        return stat;
+    }
+
+    @Override
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+        return delegate.canConvert(sourceType, targetType);
+    }
+
+    @Override
+    public boolean canConvert(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return delegate.canConvert(sourceType, targetType);
+    }
+
+    @Override
+    public boolean canBypassConvert(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return delegate.canBypassConvert(sourceType, targetType);
+    }
+
+    //addConverter, addFormatter ... 는 모두 addConverter(GenericConverter) 로 모인다
+    @Override
+    public void addConverter(GenericConverter converter) {
+        delegate.addConverter(converter);
+        cache.clear();
+    }
+
+    @Override
+    public void removeConvertible(Class<?> sourceType, Class<?> targetType) {
+        delegate.removeConvertible(sourceType, targetType);
+        cache.clear();
+    }
+
+    @Override
+    public void setEmbeddedValueResolver(StringValueResolver resolver) {
+        super.setEmbeddedValueResolver(resolver);
+        delegate.setEmbeddedValueResolver(resolver);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 변환 쌍(소스 타입 -> 대상 타입 + 애노테이션)별 적중률
+     */
+    public List<PairStat> getStats() {
+        List<PairStat> result = new ArrayList<>();
+        for (Stats stat : stats.values()) {
+            long hits = stat.hits.sum();
+            long misses = stat.misses.sum();
+            result.add(new PairStat(stat.pair.toString(), hits, misses,
+                    hits + misses == 0 ? 0.0 : (double) hits / (hits + misses)));
+        }
+        result.sort(Comparator.comparing(PairStat::pair));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CachingConversionService(" + delegate + ")";
+    }
+
+    public record PairStat(String pair, long hits, long misses, double hitRatio) {
+    }
+
+    //TypeDescriptor 의 equals 는 타입과 애노테이션(패턴 등 속성 포함)을 비교한다
+    private record Key(TypeDescriptor sourceType, TypeDescriptor targetType, Object source, Locale locale, TimeZone timeZone) {
+    }
+
+    private record Pair(TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            append(sb, sourceType).append(" -> ");
+            return append(sb, targetType).toString();
+        }
+
+        private static StringBuilder append(StringBuilder sb, TypeDescriptor type) {
+            for (Annotation annotation : type.getAnnotations()) {
+                sb.append('@').append(annotation.annotationType().getSimpleName()).append(' ');
+            }
+            return sb.append(type.getType().getSimpleName());
+        }
+    }
+
+    private static final class Stats {
+        private final Pair pair;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private Stats(Pair pair) {
+            this.pair = pair;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package hello.typeconverter.conversion;
+
+import hello.typeconverter.type.IpPort;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.format.support.FormattingConversionService;
+
+import java.util.Set;
+
+/**
+ * typeconverter.conversion-cache.enabled=true 이면 스프링 MVC 가 쓰는 컨버전 서비스(mvcConversionService,
+ * WebConfig.addFormatters 로 컨버터/포맷터를 등록한 그 서비스)를 CachingConversionService 로 감싼다
+ */
+@Configuration
+@ConditionalOnProperty(name = "typeconverter.conversion-cache.enabled", havingValue = "true")
+public class ConversionCacheConfig {
+
+    private static final String MVC_CONVERSION_SERVICE = "mvcConversionService";
+
+    @Bean
+    public static BeanPostProcessor conversionCachePostProcessor(Environment environment) {
+        int maxSize = environment.getProperty("typeconverter.conversion-cache.max-size", Integer.class, 10_000);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (MVC_CONVERSION_SERVICE.equals(beanName) && bean instanceof FormattingConversionService service) {
+                    return new CachingConversionService(service, maxSize, Set.of(IpPort.class));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,33 @@
+package hello.typeconverter.conversion;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 변환 결과 캐시 크기와 변환 쌍별 적중률
+ */
+@RestController
+@ConditionalOnProperty(name = "typeconverter.conversion-cache.enabled", havingValue = "true")
+public class ConversionCacheController {
+
+    private final CachingConversionService conversionService;
+
+    public ConversionCacheController(@Qualifier("mvcConversionService") FormattingConversionService conversionService) {
+        this.conversionService = (CachingConversionService) conversionService;
+    }
+
+    @GetMapping("/conversion-cache")
+    public Map<String, Object> conversionCache() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", conversionService.size());
+        result.put("pairs", conversionService.getStats());
+        return result;
+    }
+
+}
@@ -0,0 +1,83 @@
+package hello.typeconverter.conversion;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.format.DateTimeFormatters;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * typeconverter.dispatch-table.enabled=true 이면 mvcConversionService 를 DispatchTableConversionService 로 바꾸고
+ * 컨텍스트 refresh 뒤에 컨버터 조회 테이블을 고정한다
+ */
+@Configuration
+@ConditionalOnProperty(name = "typeconverter.dispatch-table.enabled", havingValue = "true")
+public class DispatchTableConfig {
+
+    @Bean
+    public static DispatchTablePostProcessor dispatchTablePostProcessor(Environment environment,
+                                                                        ObjectProvider<WebMvcProperties> mvcProperties,
+                                                                        ObjectProvider<WebMvcConfigurer> configurers) {
+        Duration warmUp = environment.getProperty("typeconverter.dispatch-table.warm-up", Duration.class, Duration.ofSeconds(30));
+        return new DispatchTablePostProcessor(warmUp, mvcProperties, configurers);
+    }
+
+    /**
+     * 스프링 부트의 mvcConversionService 와 같은 방법으로 다시 만든다: WebConversionService(spring.mvc.format.*) + 모든 WebMvcConfigurer.addFormatters()
+     * - 변환 결과 캐시(ConversionCacheConfig)를 같이 쓰면 캐시가 이 서비스를 감싼다 (Ordered 이므로 먼저 적용)
+     */
+    static class DispatchTablePostProcessor implements BeanPostProcessor, Ordered, ApplicationListener<ContextRefreshedEvent> {
+
+        private static final String MVC_CONVERSION_SERVICE = "mvcConversionService";
+
+        private final Duration warmUp;
+        private final ObjectProvider<WebMvcProperties> mvcProperties;
+        private final ObjectProvider<WebMvcConfigurer> configurers;
+        private volatile DispatchTableConversionService conversionService;
+
+        DispatchTablePostProcessor(Duration warmUp, ObjectProvider<WebMvcProperties> mvcProperties,
+                                   ObjectProvider<WebMvcConfigurer> configurers) {
+            this.warmUp = warmUp;
+            this.mvcProperties = mvcProperties;
+            this.configurers = configurers;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!MVC_CONVERSION_SERVICE.equals(beanName)) {
+                return bean;
+            }
+            WebMvcProperties.Format format = mvcProperties.getObject().getFormat();
+            DispatchTableConversionService service = new DispatchTableConversionService(new DateTimeFormatters()
+                    .dateFormat(format.getDate())
+                    .timeFormat(format.getTime())
+                    .dateTimeFormat(format.getDateTime()));
+            configurers.orderedStream().forEach(configurer -> configurer.addFormatters(service));
+            conversionService = service;
+            return service;
+        }
+
+        @Override
+        public void onApplicationEvent(ContextRefreshedEvent event) {
+            DispatchTableConversionService service = conversionService;
+            if (service != null) {
+                service.freeze(warmUp.toMillis());
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+package hello.typeconverter.conversion;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.format.DateTimeFormatters;
+import org.springframework.boot.autoconfigure.web.format.WebConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 컨버터 조회를 (소스 클래스, 대상 클래스) 고정 테이블로 바꾼 WebConversionService
+ * - GenericConversionService 는 변환마다 TypeDescriptor 쌍을 키로 캐시를 찾는다 (해시 + 애노테이션 비교)
+ * - freeze() 때 등록된 컨버터의 타입 쌍과 지금까지 요청된 타입 쌍의 컨버터를 미리 찾아 IdentityHashMap 으로 만들어 둔다
+ * - 애노테이션이 붙은 타입(@NumberFormat 필드, @RequestParam 파라미터)은 애노테이션 인스턴스가 같을 때만 테이블을 쓴다
+ *   (리플렉션 애노테이션 인스턴스는 필드/파라미터마다 하나이므로 == 비교로 충분하다)
+ * - 제네릭이 있는 타입(List<Integer> ...)과 테이블에 없는 쌍은 원래 조회 경로를 탄다
+ * - freeze() 뒤에 테이블에 없던 쌍이 요청되면 모아 두었다가, warmUp 간격마다 최대 한 번 테이블을 다시 만든다
+ * - 컨버터를 추가/삭제하면 테이블을 버린다
+ */
+@Slf4j
+public class DispatchTableConversionService extends WebConversionService {
+
+    private static final int SEEN_PAIR_LIMIT = 1024;
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    //부모 생성자에서 addConverter 가 불리므로 필드 초기화 없이 필요할 때 만든다
+    private Set<ConvertiblePair> registeredPairs;
+    private Map<SeenPair, SeenPair> seenPairs;
+    private volatile Map<Class<?>, Map<Class<?>, Entry[]>> table;
+    private volatile long rebuildIntervalNanos;
+    private volatile long nextRebuild;
+    private volatile boolean dirty;
+    private AtomicBoolean rebuilding;
+    private LongAdder hits;
+    private LongAdder fallbacks;
+
+    public DispatchTableConversionService(DateTimeFormatters dateTimeFormatters) {
+        super(dateTimeFormatters);
+        init();
+    }
+
+    private void init() {
+        if (registeredPairs == null) {
+            registeredPairs = ConcurrentHashMap.newKeySet();
+            seenPairs = new ConcurrentHashMap<>();
+            rebuilding = new AtomicBoolean();
+            hits = new LongAdder();
+            fallbacks = new LongAdder();
+        }
+    }
+
+    /**
+     * 지금까지 등록/요청된 타입 쌍으로 테이블을 만든다, 이후 새로 요청된 쌍은 warmUp 간격마다 반영한다
+     */
+    public void freeze(long warmUpMillis) {
+        rebuildIntervalNanos = TimeUnit.MILLISECONDS.toNanos(warmUpMillis);
+        build();
+    }
+
+    private void build() {
+        dirty = false;
+        nextRebuild = System.nanoTime() + rebuildIntervalNanos;
+        Map<Class<?>, Map<Class<?>, List<Entry>>> built = new IdentityHashMap<>();
+        for (ConvertiblePair pair : registeredPairs) {
+            add(built, TypeDescriptor.valueOf(pair.getSourceType()), TypeDescriptor.valueOf(pair.getTargetType()));
+        }
+        for (SeenPair pair : seenPairs.values()) {
+            add(built, pair.sourceType, pair.targetType);
+        }
+
+        Map<Class<?>, Map<Class<?>, Entry[]>> frozen = new IdentityHashMap<>();
+        int pairs = 0;
+        for (Map.Entry<Class<?>, Map<Class<?>, List<Entry>>> source : built.entrySet()) {
+            Map<Class<?>, Entry[]> targets = new IdentityHashMap<>();
+            for (Map.Entry<Class<?>, List<Entry>> target : source.getValue().entrySet()) {
+                targets.put(target.getKey(), target.getValue().toArray(Entry[]::new));
+                pairs += target.getValue().size();
+            }
+            frozen.put(source.getKey(), targets);
+        }
+        table = frozen;
+        log.info("conversion dispatch table frozen: {} type pairs", pairs);
+    }
+
+    private void add(Map<Class<?>, Map<Class<?>, List<Entry>>> built, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        GenericConverter converter = find(sourceType, targetType);
+        if (converter == null) {
+            return;
+        }
+        List<Entry> entries = built.computeIfAbsent(sourceType.getType(), type -> new IdentityHashMap<>())
+                .computeIfAbsent(targetType.getType(), type -> new ArrayList<>(1));
+        Entry entry = new Entry(sourceType.getAnnotations(), targetType.getAnnotations(), converter);
+        for (Entry existing : entries) {
+            if (existing.matches(entry.sourceAnnotations, entry.targetAnnotations)) {
+                return;
+            }
+        }
+        entries.add(entry);
+    }
+
+    //등록 쌍이 상위 타입(Enum, Number ...)이면 ConverterFactory 가 구체 타입을 요구하며 실패할 수 있다 (그런 쌍은 원래 경로로)
+    private GenericConverter find(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        try {
+            return super.getConverter(sourceType, targetType);
+        } catch (RuntimeException e) {
+            log.debug("skip dispatch table pair {} -> {}", sourceType, targetType, e);
+            return null;
+        }
+    }
+
+    @Override
+    protected GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        Map<Class<?>, Map<Class<?>, Entry[]>> current = table;
+        boolean raw = isRaw(sourceType) && isRaw(targetType);
+        if (current != null && raw) {
+            Map<Class<?>, Entry[]> targets = current.get(sourceType.getType());
+            Entry[] entries = targets != null ? targets.get(targetType.getType()) : null;
+            if (entries != null) {
+                Annotation[] sourceAnnotations = sourceType.getAnnotations();
+                Annotation[] targetAnnotations = targetType.getAnnotations();
+                for (Entry entry : entries) {
+                    if (entry.matches(sourceAnnotations, targetAnnotations)) {
+                        hits.increment();
+                        return entry.converter;
+                    }
+                }
+            }
+        }
+        fallbacks.increment();
+        if (raw) {
+            seen(sourceType, targetType, current != null);
+        }
+        return super.getConverter(sourceType, targetType);
+    }
+
+    private void seen(TypeDescriptor sourceType, TypeDescriptor targetType, boolean frozen) {
+        if (seenPairs.size() < SEEN_PAIR_LIMIT) {
+            SeenPair pair = new SeenPair(sourceType, targetType);
+            if (seenPairs.putIfAbsent(pair, pair) == null) {
+                dirty = true;
+            }
+        }
+        //새 쌍이 있으면 간격마다 빠진 조회 하나가 다시 만든다 (컨버터가 없는 쌍은 다시 모이지 않으므로 곧 멈춘다)
+        if (frozen && dirty && System.nanoTime() - nextRebuild > 0 && rebuilding.compareAndSet(false, true)) {
+            try {
+                build();
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    //제네릭이 없는 타입 (배열은 요소 타입까지 클래스에 들어 있다)
+    private static boolean isRaw(TypeDescriptor type) {
+        return type.getResolvableType().getType() instanceof Class;
+    }
+
+    private static boolean sameInstances(Annotation[] a, Annotation[] b) {
+        if (a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int identityHash(Annotation[] annotations) {
+        int hash = 1;
+        for (Annotation annotation : annotations) {
+            hash = 31 * hash + System.identityHashCode(annotation);
+        }
+        return hash;
+    }
+
+    @Override
+    public void addConverter(GenericConverter converter) {
+        init();
+        super.addConverter(converter);
+        Set<ConvertiblePair> pairs = converter.getConvertibleTypes();
+        if (pairs != null) {
+            registeredPairs.addAll(pairs);
+        }
+        table = null;
+    }
+
+    @Override
+    public void removeConvertible(Class<?> sourceType, Class<?> targetType) {
+        super.removeConvertible(sourceType, targetType);
+        registeredPairs.remove(new ConvertiblePair(sourceType, targetType));
+        table = null;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    private static final class Entry {
+        private final Annotation[] sourceAnnotations;
+        private final Annotation[] targetAnnotations;
+        private final GenericConverter converter;
+
+        private Entry(Annotation[] sourceAnnotations, Annotation[] targetAnnotations, GenericConverter converter) {
+            this.sourceAnnotations = sourceAnnotations.length == 0 ? NO_ANNOTATIONS : sourceAnnotations.clone();
+            this.targetAnnotations = targetAnnotations.length == 0 ? NO_ANNOTATIONS : targetAnnotations.clone();
+            this.converter = converter;
+        }
+
+        private boolean matches(Annotation[] sourceAnnotations, Annotation[] targetAnnotations) {
+            return sameInstances(this.sourceAnnotations, sourceAnnotations) && sameInstances(this.targetAnnotations, targetAnnotations);
+        }
+    }
+
+    //요청된 타입 쌍 (클래스 + 애노테이션 인스턴스로 구분)
+    private static final class SeenPair {
+        private final TypeDescriptor sourceType;
+        private final TypeDescriptor targetType;
+
+        private SeenPair(TypeDescriptor sourceType, TypeDescriptor targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SeenPair other
+                    && sourceType.getType() == other.sourceType.getType() && targetType.getType() == other.targetType.getType()
+                    && sameInstances(sourceType.getAnnotations(), other.sourceType.getAnnotations())
+                    && sameInstances(targetType.getAnnotations(), other.targetType.getAnnotations());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * sourceType.getType().hashCode() + targetType.getType().hashCode())
+                    + identityHash(sourceType.getAnnotations()) * 17 + identityHash(targetType.getAnnotations());
+        }
+    }
+
+}
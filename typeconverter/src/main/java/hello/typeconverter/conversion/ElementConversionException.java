@@ -0,0 +1,49 @@
+package hello.typeconverter.conversion;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
+
+/**
+ * 배열/컬렉션 변환에서 실패한 요소들 (인덱스, 원본 값, 원인)
+ * - 메시지에는 앞의 몇 개만 남기고 전체 목록은 getErrors() 로 조회한다
+ * - 원본 값은 직렬화할 수 있다는 보장이 없으므로 목록은 직렬화하지 않는다 (역직렬화하면 메시지와 첫 원인만 남는다)
+ */
+public class ElementConversionException extends ConversionException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MESSAGE_ERROR_LIMIT = 5;
+
+    private final transient List<ElementError> errors;
+
+    public ElementConversionException(TypeDescriptor sourceType, TypeDescriptor targetType, List<ElementError> errors) {
+        super(message(sourceType, targetType, errors), errors.get(0).cause());
+        this.errors = List.copyOf(errors);
+    }
+
+    private static String message(TypeDescriptor sourceType, TypeDescriptor targetType, List<ElementError> errors) {
+        StringBuilder sb = new StringBuilder()
+                .append(sourceType).append(" -> ").append(targetType)
+                .append(" 요소 ").append(errors.size()).append("개를 변환하지 못했습니다.");
+        for (int i = 0; i < Math.min(errors.size(), MESSAGE_ERROR_LIMIT); i++) {
+            ElementError error = errors.get(i);
+            sb.append(" [").append(error.index()).append("]='").append(error.value()).append("': ")
+                    .append(NestedExceptionUtils.getMostSpecificCause(error.cause()).getMessage());
+        }
+        if (errors.size() > MESSAGE_ERROR_LIMIT) {
+            sb.append(" ...");
+        }
+        return sb.toString();
+    }
+
+    public List<ElementError> getErrors() {
+        return errors != null ? errors : List.of();
+    }
+
+    public record ElementError(int index, Object value, ConversionException cause) {
+    }
+
+}
@@ -0,0 +1,204 @@
+package hello.typeconverter.conversion;
+
+import hello.typeconverter.conversion.ElementConversionException.ElementError;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+import org.springframework.format.datetime.standard.DateTimeContext;
+import org.springframework.format.datetime.standard.DateTimeContextHolder;
+
+import java.io.Serial;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 배열/컬렉션 -> 컬렉션/배열 변환 (요소마다 ConversionService 로 변환)
+ * - 요소 수가 threshold 이상이면 공유 ForkJoinPool 에서 구간을 나눠 병렬로 변환한다, 결과 순서는 원본 순서 그대로
+ * - 요소 변환이 실패해도 멈추지 않고 끝까지 변환한 뒤 실패한 요소들을 인덱스와 함께 ElementConversionException 으로 알린다
+ *   (데이터 바인딩의 TypeConverterDelegate 는 ConversionFailedException 이면 자기 방식으로 요소를 다시 변환하므로 처음 실패한 요소만 보고된다)
+ * - 포맷터가 LocaleContextHolder 의 로케일, DateTimeContextHolder 의 시간대/연표를 쓰므로 호출한 스레드의 두 컨텍스트를 작업 스레드에 넘긴다
+ * - 요소 타입이 이미 대상 요소 타입이면 (List<String> -> List<String>) 스프링 기본 컨버터가 처리한다
+ */
+public class ParallelCollectionConverter implements ConditionalGenericConverter {
+
+    private final ConversionService conversionService;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    public ParallelCollectionConverter(ConversionService conversionService, ForkJoinPool pool, int threshold) {
+        this.conversionService = conversionService;
+        this.pool = pool;
+        this.threshold = threshold;
+        //작업 스레드마다 몇 개 구간을 가져가도록 나눈다 (너무 잘게 나누면 태스크 비용이 요소 변환보다 커진다)
+        this.chunkSize = Math.max(32, threshold / (pool.getParallelism() * 4));
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return Set.of(
+                new ConvertiblePair(Object[].class, Collection.class),
+                new ConvertiblePair(Collection.class, Collection.class),
+                new ConvertiblePair(Object[].class, Object[].class),
+                new ConvertiblePair(Collection.class, Object[].class));
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        TypeDescriptor targetElementType = targetType.getElementTypeDescriptor();
+        if (targetElementType == null || targetElementType.getType() == Object.class) {
+            return false;
+        }
+        TypeDescriptor sourceElementType = sourceType.getElementTypeDescriptor();
+        if (sourceElementType == null) {
+            return true;
+        }
+        if (targetElementType.getObjectType().isAssignableFrom(sourceElementType.getObjectType())) {
+            return false;
+        }
+        return conversionService.canConvert(sourceElementType, targetElementType);
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        Object[] elements = source instanceof Collection<?> collection ? collection.toArray() : toArray(source);
+        TypeDescriptor targetElementType = targetType.getElementTypeDescriptor();
+
+        Object[] results = new Object[elements.length];
+        ConversionException[] errors = new ConversionException[elements.length];
+        Batch batch = new Batch(elements, results, errors, sourceType, targetElementType);
+        //작업 스레드가 하나면 나눠도 이득이 없다
+        if (elements.length < threshold || pool.getParallelism() == 1) {
+            batch.convert(0, elements.length);
+        } else {
+            pool.invoke(new ConvertTask(batch, 0, elements.length,
+                    LocaleContextHolder.getLocaleContext(), DateTimeContextHolder.getDateTimeContext()));
+        }
+        checkErrors(elements, errors, sourceType, targetType);
+
+        if (targetType.isArray()) {
+            Object array = Array.newInstance(targetElementType.getType(), results.length);
+            for (int i = 0; i < results.length; i++) {
+                Array.set(array, i, results[i]);
+            }
+            return array;
+        }
+        Collection<Object> target = CollectionFactory.createCollection(targetType.getType(), targetElementType.getType(), results.length);
+        for (Object result : results) {
+            target.add(result);
+        }
+        return target;
+    }
+
+    //원시 타입 배열(int[] ...)도 받는다
+    private static Object[] toArray(Object array) {
+        if (array instanceof Object[] objects) {
+            return objects;
+        }
+        int length = Array.getLength(array);
+        Object[] elements = new Object[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = Array.get(array, i);
+        }
+        return elements;
+    }
+
+    private static void checkErrors(Object[] elements, ConversionException[] errors, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        List<ElementError> failed = null;
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                if (failed == null) {
+                    failed = new ArrayList<>();
+                }
+                failed.add(new ElementError(i, elements[i], errors[i]));
+            }
+        }
+        if (failed != null) {
+            throw new ElementConversionException(sourceType, targetType, failed);
+        }
+    }
+
+    private final class Batch {
+
+        private final Object[] elements;
+        private final Object[] results;
+        private final ConversionException[] errors;
+        private final TypeDescriptor sourceType;
+        private final TypeDescriptor targetElementType;
+
+        private Batch(Object[] elements, Object[] results, ConversionException[] errors,
+                      TypeDescriptor sourceType, TypeDescriptor targetElementType) {
+            this.elements = elements;
+            this.results = results;
+            this.errors = errors;
+            this.sourceType = sourceType;
+            this.targetElementType = targetElementType;
+        }
+
+        //인덱스 구간마다 결과/오류 배열의 자기 칸에만 쓰므로 동기화가 필요 없다
+        private void convert(int from, int to) {
+            for (int i = from; i < to; i++) {
+                Object element = elements[i];
+                try {
+                    results[i] = conversionService.convert(element, sourceType.elementTypeDescriptor(element), targetElementType);
+                } catch (ConversionException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+    }
+
+    //ForkJoinTask 는 Serializable 이지만 이 작업은 직렬화하지 않는다
+    private final class ConvertTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch batch;
+        private final int from;
+        private final int to;
+        private final transient LocaleContext localeContext;
+        private final transient DateTimeContext dateTimeContext;
+
+        private ConvertTask(Batch batch, int from, int to, LocaleContext localeContext, DateTimeContext dateTimeContext) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.localeContext = localeContext;
+            this.dateTimeContext = dateTimeContext;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+                DateTimeContext previousDateTime = DateTimeContextHolder.getDateTimeContext();
+                LocaleContextHolder.setLocaleContext(localeContext);
+                DateTimeContextHolder.setDateTimeContext(dateTimeContext);
+                try {
+                    batch.convert(from, to);
+                } finally {
+                    LocaleContextHolder.setLocaleContext(previousLocale);
+                    DateTimeContextHolder.setDateTimeContext(previousDateTime);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask(batch, from, middle, localeContext, dateTimeContext),
+                    new ConvertTask(batch, middle, to, localeContext, dateTimeContext));
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package hello.typeconverter.conversion;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * typeconverter.parallel-conversion.enabled=true 이면 mvcConversionService 에 ParallelCollectionConverter 를 등록한다
+ * - 나중에 등록한 컨버터가 먼저 쓰이므로 스프링 기본 배열/컬렉션 컨버터 대신 사용된다
+ * - 작업 스레드는 요청 스레드가 아닌 공유 풀(conversion-N) 하나를 모든 요청이 같이 쓴다
+ */
+@Configuration
+@ConditionalOnProperty(name = "typeconverter.parallel-conversion.enabled", havingValue = "true")
+public class ParallelConversionConfig implements WebMvcConfigurer {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelConversionConfig(@Value("${typeconverter.parallel-conversion.threshold:256}") int threshold,
+                                    @Value("${typeconverter.parallel-conversion.parallelism:0}") int parallelism) {
+        this.threshold = threshold;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("conversion-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                }, null, false);
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        if (registry instanceof ConversionService conversionService) {
+            registry.addConverter(new ParallelCollectionConverter(conversionService, pool, threshold));
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+}
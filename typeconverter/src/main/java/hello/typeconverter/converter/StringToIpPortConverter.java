@@ -1,20 +1,49 @@
 package hello.typeconverter.converter;
 
 import hello.typeconverter.type.IpPort;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.converter.Converter;
 
-@Slf4j
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "127.0.0.1:8080", "[::1]:8080" > IpPort 객체
+ * - split(":") 대신 문자열을 한 번만 훑는 파서 IpPort.parse 사용 (IPv6 는 [주소]:포트 형식)
+ * - 형식이 틀리면 몇 번째 문자에서 무엇이 틀렸는지 IllegalArgumentException 메시지로 알려준다
+ * - 같은 문자열은 같은 IpPort 인스턴스를 돌려준다 (IpPort 는 불변, 캐시는 한도까지만 채운다)
+ */
 public class StringToIpPortConverter implements Converter<String, IpPort> {
 
+    private static final int DEFAULT_CACHE_LIMIT = 1024;
+
+    private final int cacheLimit;
+    private final Map<String, IpPort> cache = new ConcurrentHashMap<>();
+
+    public StringToIpPortConverter() {
+        this(DEFAULT_CACHE_LIMIT);
+    }
+
+    public StringToIpPortConverter(int cacheLimit) {
+        this.cacheLimit = cacheLimit;
+    }
+
     @Override
     public IpPort convert(String source) {
-        log.info("convert source = {}", source);
-        //"127.0.0.1:8080" > IpPort 객체
-        String[] split = source.split(":");
-        String ip = split[0];
-        int port = Integer.parseInt(split[1]);
-        return new IpPort(ip, port);
+        IpPort cached = cache.get(source);
+        if (cached != null) {
+            return cached;
+        }
+        IpPort ipPort = parse(source);
+        //입력 종류가 한도를 넘으면 캐시하지 않는다
+        if (cache.size() < cacheLimit) {
+            IpPort previous = cache.putIfAbsent(source, ipPort);
+            return previous != null ? previous : ipPort;
+        }
+        return ipPort;
+    }
+
+    static IpPort parse(String source) {
+        return IpPort.parse(source);
     }
 
 }
@@ -0,0 +1,131 @@
+package hello.typeconverter.formatter;
+
+import org.springframework.context.support.EmbeddedValueResolutionSupport;
+import org.springframework.format.AnnotationFormatterFactory;
+import org.springframework.format.Parser;
+import org.springframework.format.Printer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.datetime.standard.DateTimeContext;
+import org.springframework.format.datetime.standard.DateTimeContextHolder;
+import org.springframework.format.datetime.standard.Jsr310DateTimeFormatAnnotationFormatterFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.util.StringValueResolver;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * pattern 을 지정한 @DateTimeFormat 필드(LocalDate, LocalTime, LocalDateTime)용 포맷터 팩토리
+ * - "yyyy-MM-dd HH:mm:ss" 처럼 숫자 폭이 고정된 패턴은 DateTimeFormatter 없이 직접 읽고 쓴다 (FixedWidthDateTimeFormat)
+ * - 숫자만 쓰므로 결과가 로케일/타임존과 상관없다, 컴파일한 형식은 (pattern, 필드 타입)별로 하나를 같이 쓴다
+ * - 직접 읽지 못한 입력은 스프링 기본 파서로 넘긴다: ISO 형식 허용, 오류 메시지까지 기본과 같다
+ * - 그 밖의 패턴(월 이름 MMM ...), iso/style, fallbackPatterns, 비 ISO 달력(DateTimeContext)은 스프링 기본 포맷터를 그대로 쓴다
+ *   (스프링 기본도 필드별로 컴파일한 DateTimeFormatter 를 캐시한다)
+ */
+public class CachedDateTimeFormatAnnotationFormatterFactory extends EmbeddedValueResolutionSupport
+        implements AnnotationFormatterFactory<DateTimeFormat> {
+
+    private static final Set<Class<?>> FIELD_TYPES = Set.of(LocalDate.class, LocalTime.class, LocalDateTime.class);
+
+    private final Jsr310DateTimeFormatAnnotationFormatterFactory defaults = new Jsr310DateTimeFormatAnnotationFormatterFactory();
+    //pattern 종류는 코드의 애노테이션 수만큼이라 한도를 두지 않는다 (고정 폭이 아니면 빈 값)
+    private final Map<FormatKey, Optional<FixedWidthDateTimeFormat>> formats = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEmbeddedValueResolver(StringValueResolver resolver) {
+        super.setEmbeddedValueResolver(resolver);
+        defaults.setEmbeddedValueResolver(resolver);
+    }
+
+    @Override
+    public Set<Class<?>> getFieldTypes() {
+        return FIELD_TYPES;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Printer<?> getPrinter(DateTimeFormat annotation, Class<?> fieldType) {
+        Printer<TemporalAccessor> fallback = (Printer<TemporalAccessor>) defaults.getPrinter(annotation, fieldType);
+        FixedWidthDateTimeFormat format = format(annotation, fieldType);
+        return format != null ? new FixedWidthPrinter(format, fallback) : fallback;
+    }
+
+    @Override
+    public Parser<?> getParser(DateTimeFormat annotation, Class<?> fieldType) {
+        Parser<?> fallback = defaults.getParser(annotation, fieldType);
+        FixedWidthDateTimeFormat format = format(annotation, fieldType);
+        return format != null ? new FixedWidthParser(format, fallback) : fallback;
+    }
+
+    private FixedWidthDateTimeFormat format(DateTimeFormat annotation, Class<?> fieldType) {
+        String pattern = resolveEmbeddedValue(annotation.pattern());
+        if (!StringUtils.hasLength(pattern) || annotation.fallbackPatterns().length > 0) {
+            return null;
+        }
+        return formats.computeIfAbsent(new FormatKey(pattern, fieldType),
+                key -> Optional.ofNullable(FixedWidthDateTimeFormat.compile(key.pattern(), key.fieldType()))).orElse(null);
+    }
+
+    //비 ISO 달력을 지정했으면 스프링 기본 포맷터로 (타임존은 Local* 타입 결과에 영향이 없다)
+    private static boolean isoChronology() {
+        DateTimeContext context = DateTimeContextHolder.getDateTimeContext();
+        return context == null || context.getChronology() == null;
+    }
+
+    private record FormatKey(String pattern, Class<?> fieldType) {
+    }
+
+    private static final class FixedWidthPrinter implements Printer<TemporalAccessor> {
+
+        private final FixedWidthDateTimeFormat format;
+        private final Printer<TemporalAccessor> fallback;
+
+        private FixedWidthPrinter(FixedWidthDateTimeFormat format, Printer<TemporalAccessor> fallback) {
+            this.format = format;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public String print(TemporalAccessor object, Locale locale) {
+            if (isoChronology()) {
+                String text = format.print(object);
+                if (text != null) {
+                    return text;
+                }
+            }
+            return fallback.print(object, locale);
+        }
+    }
+
+    private static final class FixedWidthParser implements Parser<TemporalAccessor> {
+
+        private final FixedWidthDateTimeFormat format;
+        private final Parser<?> fallback;
+
+        private FixedWidthParser(FixedWidthDateTimeFormat format, Parser<?> fallback) {
+            this.format = format;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public TemporalAccessor parse(String text, Locale locale) throws ParseException {
+            if (isoChronology()) {
+                TemporalAccessor value = format.parse(text);
+                if (value != null) {
+                    return value;
+                }
+            }
+            //기본 파서가 ISO 형식을 시도하고, 실패하면 기본과 같은 예외를 던진다
+            return (TemporalAccessor) fallback.parse(text, locale);
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+package hello.typeconverter.formatter;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * 숫자 필드 폭이 고정된 날짜/시간 패턴 ("yyyy-MM-dd HH:mm:ss", "yyyy/MM/dd", "HH:mm:ss.SSS" ...)을 직접 읽고 쓴다
+ * - 지원하는 필드: yyyy(uuuu) MM dd HH mm ss SSS, 나머지는 문자 그대로인 구분자 (따옴표로 감싼 'T' 포함)
+ * - DateTimeFormatter(STRICT) 와 같은 결과를 내는 입력만 처리하고, 아니면 null 을 돌려준다 (호출한 쪽이 원래 포맷터로 처리)
+ * - 중간 객체 없이 문자를 바로 읽고 쓴다 (할당은 결과 객체와 출력 버퍼뿐)
+ */
+final class FixedWidthDateTimeFormat {
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int MILLI = 6;
+    //템플릿에서 숫자가 들어갈 자리
+    private static final char DIGIT = '\0';
+
+    private final char[] template;
+    //필드별 시작 위치 (없으면 -1)
+    private final int[] offsets;
+    private final Class<?> type;
+
+    private FixedWidthDateTimeFormat(char[] template, int[] offsets, Class<?> type) {
+        this.template = template;
+        this.offsets = offsets;
+        this.type = type;
+    }
+
+    /**
+     * 패턴이 고정 폭이고 필드 타입(LocalDate, LocalTime, LocalDateTime)을 만들 수 있는 필드를 가졌을 때만 만든다
+     */
+    static FixedWidthDateTimeFormat compile(String pattern, Class<?> type) {
+        StringBuilder template = new StringBuilder(pattern.length());
+        int[] offsets = {-1, -1, -1, -1, -1, -1, -1};
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                //'' (따옴표 자체)는 지원하지 않는다
+                if (end <= i + 1) {
+                    return null;
+                }
+                template.append(pattern, i + 1, end);
+                i = end + 1;
+            } else if (isLetter(c)) {
+                int run = i;
+                while (run < pattern.length() && pattern.charAt(run) == c) {
+                    run++;
+                }
+                int field = field(c, run - i);
+                if (field < 0 || offsets[field] >= 0) {
+                    return null;
+                }
+                offsets[field] = template.length();
+                template.append(String.valueOf(DIGIT).repeat(run - i));
+                i = run;
+            } else if ("[]{}#".indexOf(c) >= 0 || c == DIGIT) {
+                return null;
+            } else {
+                template.append(c);
+                i++;
+            }
+        }
+        if (!supports(offsets, type)) {
+            return null;
+        }
+        return new FixedWidthDateTimeFormat(template.toString().toCharArray(), offsets, type);
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int field(char letter, int count) {
+        return switch (letter) {
+            case 'y', 'u' -> count == 4 ? YEAR : -1;
+            case 'M' -> count == 2 ? MONTH : -1;
+            case 'd' -> count == 2 ? DAY : -1;
+            case 'H' -> count == 2 ? HOUR : -1;
+            case 'm' -> count == 2 ? MINUTE : -1;
+            case 's' -> count == 2 ? SECOND : -1;
+            case 'S' -> count == 3 ? MILLI : -1;
+            default -> -1;
+        };
+    }
+
+    private static boolean supports(int[] offsets, Class<?> type) {
+        boolean date = offsets[YEAR] >= 0 && offsets[MONTH] >= 0 && offsets[DAY] >= 0;
+        boolean anyDate = offsets[YEAR] >= 0 || offsets[MONTH] >= 0 || offsets[DAY] >= 0;
+        boolean time = offsets[HOUR] >= 0 && offsets[MINUTE] >= 0 && (offsets[MILLI] < 0 || offsets[SECOND] >= 0);
+        boolean anyTime = offsets[HOUR] >= 0 || offsets[MINUTE] >= 0 || offsets[SECOND] >= 0 || offsets[MILLI] >= 0;
+        if (type == LocalDate.class) {
+            return date && !anyTime;
+        }
+        if (type == LocalTime.class) {
+            return time && !anyDate;
+        }
+        return type == LocalDateTime.class && date && time;
+    }
+
+    /**
+     * 형식이 다르거나 없는 날짜/시간이면 null
+     */
+    TemporalAccessor parse(String text) {
+        if (text.length() != template.length) {
+            return null;
+        }
+        for (int i = 0; i < template.length; i++) {
+            char expected = template[i];
+            char c = text.charAt(i);
+            if (expected == DIGIT ? c < '0' || c > '9' : c != expected) {
+                return null;
+            }
+        }
+        try {
+            if (type == LocalDate.class) {
+                return date(text);
+            }
+            if (type == LocalTime.class) {
+                return time(text);
+            }
+            return LocalDateTime.of(date(text), time(text));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private LocalDate date(String text) {
+        return LocalDate.of(read(text, YEAR, 4), read(text, MONTH, 2), read(text, DAY, 2));
+    }
+
+    private LocalTime time(String text) {
+        return LocalTime.of(read(text, HOUR, 2), read(text, MINUTE, 2), read(text, SECOND, 2), read(text, MILLI, 3) * 1_000_000);
+    }
+
+    private int read(String text, int field, int width) {
+        int offset = offsets[field];
+        if (offset < 0) {
+            return 0;
+        }
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 4자리로 쓸 수 없는 연도(0 ~ 9999 밖)면 null
+     */
+    String print(TemporalAccessor value) {
+        LocalDate date = value instanceof LocalDateTime dateTime ? dateTime.toLocalDate() : value instanceof LocalDate d ? d : null;
+        LocalTime time = value instanceof LocalDateTime dateTime ? dateTime.toLocalTime() : value instanceof LocalTime t ? t : null;
+        char[] buf = template.clone();
+        if (offsets[YEAR] >= 0) {
+            if (date == null || date.getYear() < 0 || date.getYear() > 9999) {
+                return null;
+            }
+            write(buf, YEAR, 4, date.getYear());
+            write(buf, MONTH, 2, date.getMonthValue());
+            write(buf, DAY, 2, date.getDayOfMonth());
+        }
+        if (offsets[HOUR] >= 0) {
+            if (time == null) {
+                return null;
+            }
+            write(buf, HOUR, 2, time.getHour());
+            write(buf, MINUTE, 2, time.getMinute());
+            write(buf, SECOND, 2, time.getSecond());
+            write(buf, MILLI, 3, time.getNano() / 1_000_000);
+        }
+        return new String(buf);
+    }
+
+    private void write(char[] buf, int field, int width, int value) {
+        int offset = offsets[field];
+        if (offset < 0) {
+            return;
+        }
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+}
@@ -1,31 +1,160 @@
 package hello.typeconverter.formatter;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.Formatter;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Slf4j
 public class MyNumberFormatter implements Formatter<Number> {
 
+    private static final int LOCALE_CACHE_LIMIT = 64;
+    //long 로 넘치지 않는 자릿수
+    private static final int FAST_PARSE_DIGITS = 18;
+
+    private final Map<Locale, LocaleFormat> formats = new ConcurrentHashMap<>();
+
     /**
      * Formatter
      * -  Converter 는 범용이지만 Formatter 는 문자에 특화된 버전이다
+     *
+     * NumberFormat.getInstance(locale) 는 호출마다 로케일 데이터를 찾고 DecimalFormat 을 새로 만든다
+     * - 로케일별로 한 번만 만들어 두고(template) 필요할 때 복제해서 쓴다 (DecimalFormat 은 스레드 안전하지 않음)
+     * - "1,000", "-12,345" 같은 그룹 구분자 정수는 DecimalFormat 없이 직접 읽고 쓴다 (결과는 NumberFormat 과 같음)
      */
     @Override
     public Number parse(String text, Locale locale) throws ParseException {
-        log.info("text = {}, locale = {}", text, locale);
         //"1,000" > 1000
-        NumberFormat format = NumberFormat.getInstance(locale);
-        return format.parse(text);
+        LocaleFormat format = format(locale);
+        if (format.fast) {
+            Long value = format.parseLong(text);
+            if (value != null) {
+                return value;
+            }
+        }
+        return format.newNumberFormat().parse(text);
     }
 
     @Override
     public String print(Number object, Locale locale) {
-        log.info("object = {}, locale = {}", object, locale);
-        return NumberFormat.getInstance(locale).format(object);
+        LocaleFormat format = format(locale);
+        if (format.fast && (object instanceof Integer || object instanceof Long || object instanceof Short || object instanceof Byte)
+                && object.longValue() != Long.MIN_VALUE) {
+            return format.printLong(object.longValue());
+        }
+        return format.newNumberFormat().format(object);
+    }
+
+    private LocaleFormat format(Locale locale) {
+        LocaleFormat format = formats.get(locale);
+        if (format != null) {
+            return format;
+        }
+        format = new LocaleFormat(NumberFormat.getInstance(locale));
+        //로케일 종류(Accept-Language)가 한도를 넘으면 캐시하지 않는다
+        if (formats.size() < LOCALE_CACHE_LIMIT) {
+            LocaleFormat previous = formats.putIfAbsent(locale, format);
+            return previous != null ? previous : format;
+        }
+        return format;
+    }
+
+    /**
+     * 로케일 하나의 숫자 형식 (불변, template 은 복제 용도로만 쓴다)
+     */
+    private static final class LocaleFormat {
+
+        private final NumberFormat template;
+        private final boolean fast;
+        private final char grouping;
+        private final char minus;
+
+        private LocaleFormat(NumberFormat template) {
+            this.template = template;
+            if (template instanceof DecimalFormat decimalFormat) {
+                DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+                String negativePrefix = decimalFormat.getNegativePrefix();
+                this.grouping = symbols.getGroupingSeparator();
+                this.minus = negativePrefix.length() == 1 ? negativePrefix.charAt(0) : '-';
+                //접두/접미사 없는 10진 숫자, 3자리 그룹일 때만 직접 처리
+                this.fast = symbols.getZeroDigit() == '0'
+                        && decimalFormat.isGroupingUsed() && decimalFormat.getGroupingSize() == 3
+                        && decimalFormat.getPositivePrefix().isEmpty() && decimalFormat.getPositiveSuffix().isEmpty()
+                        && negativePrefix.length() == 1 && decimalFormat.getNegativeSuffix().isEmpty()
+                        && !decimalFormat.isParseBigDecimal() && !decimalFormat.isParseIntegerOnly()
+                        && grouping != symbols.getDecimalSeparator() && !Character.isDigit(grouping);
+            } else {
+                this.grouping = ',';
+                this.minus = '-';
+                this.fast = false;
+            }
+        }
+
+        private NumberFormat newNumberFormat() {
+            return (NumberFormat) template.clone();
+        }
+
+        /**
+         * [-]숫자(그룹 구분자 숫자)* 형식만 읽는다, 아니면 null (DecimalFormat 으로 처리)
+         * - DecimalFormat 과 같이 그룹 구분자의 위치는 따지지 않는다 ("1,0000" > 10000)
+         */
+        private Long parseLong(String text) {
+            int length = text.length();
+            int i = 0;
+            boolean negative = false;
+            if (length > 0 && text.charAt(0) == minus) {
+                negative = true;
+                i = 1;
+            }
+            if (i >= length || !isDigit(text.charAt(i)) || !isDigit(text.charAt(length - 1))) {
+                return null;
+            }
+            long value = 0;
+            int digits = 0;
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (isDigit(c)) {
+                    if (++digits > FAST_PARSE_DIGITS) {
+                        return null;
+                    }
+                    value = value * 10 + (c - '0');
+                } else if (c != grouping || !isDigit(text.charAt(i + 1))) {
+                    return null;
+                }
+            }
+            //DecimalFormat 은 "-0" 을 Double -0.0 으로 돌려준다
+            if (negative && value == 0) {
+                return null;
+            }
+            return negative ? -value : value;
+        }
+
+        private String printLong(long value) {
+            char[] buffer = new char[27];
+            int position = buffer.length;
+            long remaining = Math.abs(value);
+            int digits = 0;
+            do {
+                if (digits > 0 && digits % 3 == 0) {
+                    buffer[--position] = grouping;
+                }
+                buffer[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+                digits++;
+            } while (remaining != 0);
+            if (value < 0) {
+                buffer[--position] = minus;
+            }
+            return new String(buffer, position, buffer.length - position);
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
     }
 
 }
@@ -1,18 +1,143 @@
 package hello.typeconverter.type;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
+/**
+ * IP, 포트 값 객체
+ * - 주소는 문자열 대신 128비트(long 2개)로 들고 있다. IPv4 는 IPv4-mapped 주소(::ffff:a.b.c.d)로 넣는다
+ * - 인스턴스 하나가 32바이트 (String ip + int port 로 들고 있을 때는 80바이트 이상)
+ * - equals/hashCode 는 long 비교만 하고, 같은 주소의 다른 IPv6 표기("::1", "0:0:0:0:0:0:0:1")는 같은 값이다
+ * - 문자열(getIp, toString)은 필요할 때 만든다 (IPv6 는 RFC 5952 표기, IPv4-mapped 는 a.b.c.d)
+ */
+public final class IpPort {
 
-@Getter
-@EqualsAndHashCode
-public class IpPort {
-
-    private String ip;
-    private int port;
+    private final long high;
+    private final long low;
+    private final int port;
 
+    /**
+     * @param ip IPv4("127.0.0.1") 또는 괄호 없는 IPv6("::1") 주소
+     * @throws IllegalArgumentException 주소나 포트 형식이 틀리면
+     */
     public IpPort(String ip, int port) {
-        this.ip = ip;
+        IpPort parsed = IpPortParser.of(ip, port);
+        this.high = parsed.high;
+        this.low = parsed.low;
+        this.port = port;
+    }
+
+    IpPort(long high, long low, int port) {
+        this.high = high;
+        this.low = low;
         this.port = port;
     }
 
+    /**
+     * "127.0.0.1:8080", "[::1]:8080" 형식을 읽는다
+     */
+    public static IpPort parse(String source) {
+        return IpPortParser.parse(source);
+    }
+
+    public String getIp() {
+        StringBuilder sb = new StringBuilder(39);
+        appendIp(sb);
+        return sb.toString();
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isIpv4() {
+        return high == 0 && (low >>> 32) == 0xffffL;
+    }
+
+    long getHigh() {
+        return high;
+    }
+
+    long getLow() {
+        return low;
+    }
+
+    /**
+     * "127.0.0.1:8080", IPv6 는 "[::1]:8080"
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        if (isIpv4()) {
+            appendIp(sb);
+        } else {
+            appendIp(sb.append('['));
+            sb.append(']');
+        }
+        return sb.append(':').append(port);
+    }
+
+    private void appendIp(StringBuilder sb) {
+        if (isIpv4()) {
+            sb.append((low >>> 24) & 0xff).append('.')
+                    .append((low >>> 16) & 0xff).append('.')
+                    .append((low >>> 8) & 0xff).append('.')
+                    .append(low & 0xff);
+            return;
+        }
+        //가장 긴(같으면 앞쪽) 0 그룹 연속 구간(2개 이상)을 :: 로 줄인다
+        int zerosStart = -1;
+        int zerosLength = 1;
+        for (int i = 0; i < 8; ) {
+            if (group(i) != 0) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < 8 && group(end) == 0) {
+                end++;
+            }
+            if (end - i > zerosLength) {
+                zerosStart = i;
+                zerosLength = end - i;
+            }
+            i = end;
+        }
+        for (int i = 0; i < 8; i++) {
+            if (i == zerosStart) {
+                sb.append("::");
+                i += zerosLength - 1;
+                continue;
+            }
+            if (i > 0 && i != zerosStart + zerosLength) {
+                sb.append(':');
+            }
+            sb.append(Integer.toHexString(group(i)));
+        }
+    }
+
+    private int group(int index) {
+        long bits = index < 4 ? high : low;
+        return (int) (bits >>> (48 - 16 * (index & 3))) & 0xffff;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof IpPort other
+                && high == other.high && low == other.low && port == other.port;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(high, low, port);
+    }
+
+    static int hash(long high, long low, int port) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low ^ ((long) port << 48);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(47)).toString();
+    }
+
 }
@@ -0,0 +1,155 @@
+package hello.typeconverter.type;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * IpPort 를 키로 쓰는 open addressing 해시 맵 (대량의 엔드포인트 목록용)
+ * - 키를 IpPort 객체로 들고 있지 않고 (high, low, port) 를 long[], long[], int[] 배열에 펼쳐 둔다
+ *   HashMap 처럼 항목마다 Node, 키 객체가 생기지 않는다
+ * - 선형 탐사, 삭제는 뒤 항목을 앞으로 당기는 방식 (tombstone 없음)
+ * - 스레드 안전하지 않다
+ */
+public class IpPortMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] highs;
+    private long[] lows;
+    private int[] ports;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    public IpPortMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public IpPortMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public V put(IpPort key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null 값은 넣을 수 없습니다");
+        }
+        int index = indexOf(key.getHigh(), key.getLow(), key.getPort());
+        if (values[index] != null) {
+            V previous = valueAt(index);
+            values[index] = value;
+            return previous;
+        }
+        highs[index] = key.getHigh();
+        lows[index] = key.getLow();
+        ports[index] = key.getPort();
+        values[index] = value;
+        //채움 비율 0.5 를 넘으면 두 배로 늘린다
+        if (++size > (mask + 1) >> 1) {
+            rehash((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    public V get(IpPort key) {
+        return valueAt(indexOf(key.getHigh(), key.getLow(), key.getPort()));
+    }
+
+    public boolean containsKey(IpPort key) {
+        return values[indexOf(key.getHigh(), key.getLow(), key.getPort())] != null;
+    }
+
+    public V remove(IpPort key) {
+        int index = indexOf(key.getHigh(), key.getLow(), key.getPort());
+        V previous = valueAt(index);
+        if (previous == null) {
+            return null;
+        }
+        //비운 자리 뒤에 이어진 항목 중 원래 자리가 비운 자리 이전인 것을 당겨온다
+        int hole = index;
+        for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = IpPort.hash(highs[i], lows[i], ports[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                highs[hole] = highs[i];
+                lows[hole] = lows[i];
+                ports[hole] = ports[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        values[hole] = null;
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 키 IpPort 는 순회하면서 만든다
+     */
+    public void forEach(BiConsumer<IpPort, ? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(new IpPort(highs[i], lows[i], ports[i]), valueAt(i));
+            }
+        }
+    }
+
+    //키가 있는 자리, 없으면 넣을 빈 자리
+    private int indexOf(long high, long low, int port) {
+        int i = IpPort.hash(high, low, port) & mask;
+        while (values[i] != null && !(highs[i] == high && lows[i] == low && ports[i] == port)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    private void rehash(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        int[] oldPorts = ports;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldHighs[i], oldLows[i], oldPorts[i]);
+                highs[index] = oldHighs[i];
+                lows[index] = oldLows[i];
+                ports[index] = oldPorts[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        lows = new long[capacity];
+        ports = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+}
@@ -0,0 +1,214 @@
+package hello.typeconverter.type;
+
+/**
+ * "a.b.c.d:port", "[v6]:port" 를 한 번만 훑어서 128비트 주소(IPv4 는 IPv4-mapped)와 포트로 읽는다
+ * - 형식이 틀리면 몇 번째 문자에서 무엇이 틀렸는지 IllegalArgumentException 메시지로 알려준다
+ * - 호출마다 만들어지는 작은 상태 객체 (주소 비트를 필드로 돌려준다)
+ */
+final class IpPortParser {
+
+    private static final char END = '\uFFFF';
+    private static final long IPV4_MAPPED = 0xffffL << 32;
+
+    private final String source;
+    private long high;
+    private long low;
+    private int ipv4;
+
+    private IpPortParser(String source) {
+        this.source = source;
+    }
+
+    static IpPort parse(String source) {
+        IpPortParser parser = new IpPortParser(source);
+        int separator;
+        if (parser.at(0) == '[') {
+            separator = parser.ipv6(1, ']') + 1;
+        } else {
+            separator = parser.ipv4(0, ':');
+            parser.low = IPV4_MAPPED | parser.ipv4;
+        }
+        if (parser.at(separator) != ':') {
+            throw parser.error(separator, "':' 와 포트가 필요합니다");
+        }
+        int port = parser.port(separator + 1);
+        return new IpPort(parser.high, parser.low, port);
+    }
+
+    /**
+     * 괄호 없는 주소만 읽는다 ("127.0.0.1", "::1")
+     */
+    static IpPort of(String ip, int port) {
+        IpPortParser parser = new IpPortParser(ip);
+        if (ip.indexOf(':') >= 0) {
+            parser.ipv6(0, END);
+        } else {
+            parser.ipv4(0, END);
+            parser.low = IPV4_MAPPED | parser.ipv4;
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("포트는 0~65535 입니다. port=" + port);
+        }
+        return new IpPort(parser.high, parser.low, port);
+    }
+
+    private char at(int index) {
+        return index < source.length() ? source.charAt(index) : END;
+    }
+
+    //a.b.c.d 를 읽어 ipv4 에 넣고 terminator 위치를 돌려준다
+    private int ipv4(int start, char terminator) {
+        int bits = 0;
+        int octets = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = start; ; i++) {
+            char c = at(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 3) {
+                    throw error(i, "IPv4 옥텟은 3자리 이하입니다");
+                }
+                value = value * 10 + (c - '0');
+                if (value > 255) {
+                    throw error(i, "IPv4 옥텟은 0~255 입니다");
+                }
+            } else if (c == '.' || c == terminator) {
+                if (digits == 0) {
+                    throw error(i, "IPv4 옥텟이 비어 있습니다");
+                }
+                bits = bits << 8 | value;
+                octets++;
+                if (c == terminator) {
+                    if (octets != 4) {
+                        throw error(i, "IPv4 주소는 옥텟 4개입니다");
+                    }
+                    ipv4 = bits;
+                    return i;
+                }
+                if (octets == 4) {
+                    throw error(i, "IPv4 주소는 옥텟 4개입니다");
+                }
+                value = 0;
+                digits = 0;
+            } else if (c == END) {
+                throw error(i, "'" + terminator + "' 가 필요합니다");
+            } else {
+                throw error(i, "IPv4 주소에 쓸 수 없는 문자 '" + c + "' 입니다");
+            }
+        }
+    }
+
+    //IPv6 주소를 읽어 high, low 에 넣고 terminator 위치를 돌려준다 (마지막 32비트는 IPv4 표기 허용)
+    private int ipv6(int start, char terminator) {
+        int groups = 0;
+        int group = 0;
+        int digits = 0;
+        int groupStart = start;
+        //'::' 앞의 그룹들 (끝에서 앞쪽으로 옮긴다)
+        int headGroups = -1;
+        long headHigh = 0;
+        long headLow = 0;
+        for (int i = start; ; i++) {
+            char c = at(i);
+            int digit = Character.digit(c, 16);
+            if (digit >= 0) {
+                if (++digits > 4) {
+                    throw error(i, "IPv6 그룹은 16진수 4자리 이하입니다");
+                }
+                group = group << 4 | digit;
+            } else if (c == ':') {
+                if (digits > 0) {
+                    push(group);
+                    groups++;
+                    group = 0;
+                    digits = 0;
+                } else if (i > start && at(i - 1) == ':') {
+                    if (headGroups >= 0) {
+                        throw error(i, "'::' 는 한 번만 쓸 수 있습니다");
+                    }
+                    headGroups = groups;
+                    headHigh = high;
+                    headLow = low;
+                    high = 0;
+                    low = 0;
+                } else if (at(i + 1) != ':') {
+                    throw error(i, "IPv6 그룹이 비어 있습니다");
+                }
+                groupStart = i + 1;
+            } else if (c == '.') {
+                int end = ipv4(groupStart, terminator);
+                push(ipv4 >>> 16);
+                push(ipv4 & 0xffff);
+                finish(end, groups + 2, headGroups, headHigh, headLow);
+                return end;
+            } else if (c == terminator) {
+                if (i == start) {
+                    throw error(i, "IPv6 주소가 비어 있습니다");
+                }
+                if (digits > 0) {
+                    push(group);
+                    groups++;
+                } else if (!(i - 2 >= start && at(i - 2) == ':')) {
+                    throw error(i, "IPv6 주소는 ':' 하나로 끝날 수 없습니다");
+                }
+                finish(i, groups, headGroups, headHigh, headLow);
+                return i;
+            } else if (c == END) {
+                throw error(i, "'" + terminator + "' 가 필요합니다");
+            } else {
+                throw error(i, "IPv6 주소에 쓸 수 없는 문자 '" + c + "' 입니다");
+            }
+        }
+    }
+
+    private void push(int group) {
+        high = high << 16 | low >>> 48;
+        low = low << 16 | group;
+    }
+
+    private void finish(int index, int groups, int headGroups, long headHigh, long headLow) {
+        if (headGroups < 0) {
+            if (groups != 8) {
+                throw error(index, "IPv6 주소의 그룹 수가 맞지 않습니다");
+            }
+            return;
+        }
+        if (groups > 7) {
+            throw error(index, "IPv6 주소의 그룹 수가 맞지 않습니다");
+        }
+        //'::' 앞 그룹을 맨 앞으로 올리고 뒤 그룹(high, low)과 합친다
+        for (int i = headGroups; i < 8; i++) {
+            headHigh = headHigh << 16 | headLow >>> 48;
+            headLow = headLow << 16;
+        }
+        high |= headHigh;
+        low |= headLow;
+    }
+
+    private int port(int start) {
+        int length = source.length();
+        if (start >= length) {
+            throw error(start, "포트가 비어 있습니다");
+        }
+        if (length - start > 5) {
+            throw error(start, "포트는 0~65535 입니다");
+        }
+        int port = 0;
+        for (int i = start; i < length; i++) {
+            char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                throw error(i, "포트에 쓸 수 없는 문자 '" + c + "' 입니다");
+            }
+            port = port * 10 + (c - '0');
+        }
+        if (port > 65535) {
+            throw error(start, "포트는 0~65535 입니다");
+        }
+        return port;
+    }
+
+    private IllegalArgumentException error(int index, String reason) {
+        return new IllegalArgumentException("IpPort 형식이 아닙니다. source='" + source + "', index=" + index + ": " + reason);
+    }
+
+}
@@ -0,0 +1,144 @@
+package hello.typeconverter.conversion;
+
+import hello.typeconverter.converter.StringToIpPortConverter;
+import hello.typeconverter.type.IpPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.NumberFormat;
+import org.springframework.format.datetime.standard.DateTimeContext;
+import org.springframework.format.datetime.standard.DateTimeContextHolder;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelCollectionConverterTest {
+
+    private static final TypeDescriptor STRINGS = TypeDescriptor.valueOf(String[].class);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+
+    @NumberFormat(pattern = "###,###")
+    private List<Integer> numbers;
+
+    private List<IpPort> ipPorts;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
+    private List<ZonedDateTime> times;
+
+    @BeforeEach
+    void setUp() {
+        conversionService.addConverter(new StringToIpPortConverter());
+        conversionService.addConverter(new ParallelCollectionConverter(conversionService, pool, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+        LocaleContextHolder.resetLocaleContext();
+        DateTimeContextHolder.resetDateTimeContext();
+    }
+
+    @Test
+    void keepOrder() throws NoSuchFieldException {
+        String[] source = new String[1000];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = "127.0.0.1:" + (i + 1);
+        }
+
+        List<?> result = (List<?>) conversionService.convert(source, STRINGS, field("ipPorts"));
+        assertThat(result).hasSize(1000);
+        for (int i = 0; i < source.length; i++) {
+            assertThat(result.get(i)).isEqualTo(new IpPort("127.0.0.1", i + 1));
+        }
+
+        //threshold 미만은 요청 스레드에서 변환
+        List<?> small = (List<?>) conversionService.convert(new String[]{"127.0.0.1:1", "[::1]:2"}, STRINGS, field("ipPorts"));
+        assertThat(small).isEqualTo(List.of(new IpPort("127.0.0.1", 1), new IpPort("::1", 2)));
+    }
+
+    @Test
+    void errorsByIndex() {
+        String[] source = new String[500];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = i == 3 || i == 400 ? "127.0.0.1" : "127.0.0.1:" + (i + 1);
+        }
+
+        assertThatThrownBy(() -> conversionService.convert(source, STRINGS, field("ipPorts")))
+                .isInstanceOf(ConversionFailedException.class)
+                .cause()
+                .isInstanceOfSatisfying(ElementConversionException.class, e ->
+                        assertThat(e.getErrors()).extracting(ElementConversionException.ElementError::index).containsExactly(3, 400))
+                .hasMessageContaining("[3]='127.0.0.1'")
+                .hasMessageContaining("[400]='127.0.0.1'");
+    }
+
+    @Test
+    void serializeErrors() throws Exception {
+        //요소 값이 직렬화되지 않는 타입이어도 예외는 직렬화된다
+        ElementConversionException exception = new ElementConversionException(STRINGS, TypeDescriptor.valueOf(IpPort[].class),
+                List.of(new ElementConversionException.ElementError(0, new Object(),
+                        new ConversionFailedException(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(IpPort.class), null, null))));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ElementConversionException copy = (ElementConversionException) in.readObject();
+            assertThat(copy).hasMessage(exception.getMessage());
+            assertThat(copy.getCause()).isInstanceOf(ConversionFailedException.class);
+            assertThat(copy.getErrors()).isEmpty();
+        }
+    }
+
+    @Test
+    void localeOfCaller() throws NoSuchFieldException {
+        //포맷터는 LocaleContextHolder 로케일을 쓴다 (독일어는 그룹 구분자가 '.')
+        LocaleContextHolder.setLocale(Locale.GERMANY);
+        String[] source = new String[300];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = "1.000";
+        }
+
+        List<?> result = (List<?>) conversionService.convert(source, STRINGS, field("numbers"));
+        assertThat(result).isEqualTo(Collections.nCopies(300, 1000));
+    }
+
+    @Test
+    void dateTimeContextOfCaller() throws NoSuchFieldException {
+        //시간대 없는 패턴은 DateTimeContext 의 시간대로 읽는다
+        DateTimeContext context = new DateTimeContext();
+        context.setTimeZone(ZoneId.of("Asia/Seoul"));
+        DateTimeContextHolder.setDateTimeContext(context);
+        String[] source = new String[300];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = "2024-01-02 03:04";
+        }
+
+        List<?> result = (List<?>) conversionService.convert(source, STRINGS, field("times"));
+        assertThat(result).isEqualTo(Collections.nCopies(300, ZonedDateTime.of(2024, 1, 2, 3, 4, 0, 0, ZoneId.of("Asia/Seoul"))));
+    }
+
+    private TypeDescriptor field(String name) throws NoSuchFieldException {
+        return new TypeDescriptor(getClass().getDeclaredField(name));
+    }
+
+}
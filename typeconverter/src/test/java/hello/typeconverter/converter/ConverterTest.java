@@ -5,6 +5,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ConverterTest {
 
@@ -38,4 +39,33 @@ public class ConverterTest {
         assertThat(result).isEqualTo(new IpPort("127.0.0.1", 8080));
     }
 
+    @Test
+    void stringToIpPortIpv6(){
+        StringToIpPortConverter converter = new StringToIpPortConverter();
+        assertThat(converter.convert("[::1]:8080")).isEqualTo(new IpPort("::1", 8080));
+        assertThat(converter.convert("[2001:db8::ffff:192.0.2.1]:443")).isEqualTo(new IpPort("2001:db8::ffff:192.0.2.1", 443));
+        assertThat(new IpPortToStringConverter().convert(new IpPort("::1", 8080))).isEqualTo("[::1]:8080");
+    }
+
+    @Test
+    void stringToIpPortCached(){
+        //같은 문자열은 같은 인스턴스
+        StringToIpPortConverter converter = new StringToIpPortConverter();
+        assertThat(converter.convert("127.0.0.1:8080")).isSameAs(converter.convert("127.0.0.1:8080"));
+    }
+
+    @Test
+    void stringToIpPortInvalid(){
+        StringToIpPortConverter converter = new StringToIpPortConverter();
+        assertThatThrownBy(() -> converter.convert("127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("index=9");
+        assertThatThrownBy(() -> converter.convert("127.0.0.256:8080"))
+                .hasMessageContaining("index=10");
+        assertThatThrownBy(() -> converter.convert("[1:::2]:8080"))
+                .hasMessageContaining("'::'");
+        assertThatThrownBy(() -> converter.convert("127.0.0.1:65536"))
+                .hasMessageContaining("0~65535");
+    }
+
 }
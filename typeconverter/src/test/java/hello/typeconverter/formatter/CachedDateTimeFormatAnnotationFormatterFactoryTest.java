@@ -0,0 +1,103 @@
+package hello.typeconverter.formatter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedDateTimeFormatAnnotationFormatterFactoryTest {
+
+    private final DefaultFormattingConversionService defaults = new DefaultFormattingConversionService();
+    private final DefaultFormattingConversionService cached = new DefaultFormattingConversionService();
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dateTime;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+    private LocalDateTime isoMinutes;
+
+    @DateTimeFormat(pattern = "yyyy/MM/dd")
+    private LocalDate date;
+
+    @DateTimeFormat(pattern = "HH:mm:ss.SSS")
+    private LocalTime time;
+
+    //고정 폭이 아닌 패턴 (월 이름은 로케일마다 다르다)
+    @DateTimeFormat(pattern = "dd MMM yyyy")
+    private LocalDate monthName;
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void sameAsDefaultParse() throws NoSuchFieldException {
+        cached.addFormatterForFieldAnnotation(new CachedDateTimeFormatAnnotationFormatterFactory());
+        List<String> inputs = List.of(
+                "2023-08-01 12:30:15", "2023-08-01T12:30:15", "2023-08-01T12:30", "2023-02-30 12:30:15", "2023-08-01 24:00:00",
+                "0000-01-01 00:00:00", "+12345-01-01 00:00:00", "2023-8-1 12:30:15", "2023-08-01 12:30:15 ", "2023/08/01",
+                "2023-08-01", "12:30:15.123", "12:30:15", "12:30", "01 8월 2023", "01 Aug 2023", "01 Aug. 2023", "abc");
+
+        for (Locale locale : List.of(Locale.KOREA, Locale.GERMANY, Locale.US)) {
+            LocaleContextHolder.setLocale(locale);
+            for (String field : List.of("dateTime", "isoMinutes", "date", "time", "monthName")) {
+                for (String input : inputs) {
+                    assertThat(parseOrError(cached, input, field))
+                            .as("%s %s '%s'", locale, field, input)
+                            .isEqualTo(parseOrError(defaults, input, field));
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameAsDefaultPrint() throws NoSuchFieldException {
+        cached.addFormatterForFieldAnnotation(new CachedDateTimeFormatAnnotationFormatterFactory());
+        List<LocalDateTime> values = List.of(
+                LocalDateTime.of(2023, 8, 1, 12, 30, 15), LocalDateTime.of(2023, 8, 1, 0, 0, 0, 123_456_789),
+                LocalDateTime.of(0, 1, 1, 0, 0), LocalDateTime.of(10000, 12, 31, 23, 59, 59), LocalDateTime.of(-1, 1, 1, 0, 0));
+
+        for (Locale locale : List.of(Locale.KOREA, Locale.GERMANY, Locale.US)) {
+            LocaleContextHolder.setLocale(locale);
+            for (LocalDateTime value : values) {
+                assertPrint(value, "dateTime");
+                assertPrint(value, "isoMinutes");
+                assertPrint(value.toLocalDate(), "date");
+                assertPrint(value.toLocalTime(), "time");
+                assertPrint(value.toLocalDate(), "monthName");
+            }
+        }
+    }
+
+    private void assertPrint(Object value, String field) throws NoSuchFieldException {
+        TypeDescriptor sourceType = field(field);
+        TypeDescriptor string = TypeDescriptor.valueOf(String.class);
+        assertThat(cached.convert(value, sourceType, string))
+                .as("%s %s", field, value)
+                .isEqualTo(defaults.convert(value, sourceType, string));
+    }
+
+    private Object parseOrError(DefaultFormattingConversionService conversionService, String text, String field) throws NoSuchFieldException {
+        try {
+            return conversionService.convert(text, TypeDescriptor.valueOf(String.class), field(field));
+        } catch (RuntimeException e) {
+            return e.getClass() + " " + e.getMessage() + " / " + e.getCause().getMessage();
+        }
+    }
+
+    private TypeDescriptor field(String name) throws NoSuchFieldException {
+        return new TypeDescriptor(getClass().getDeclaredField(name));
+    }
+
+}
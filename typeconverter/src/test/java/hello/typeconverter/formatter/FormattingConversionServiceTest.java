@@ -1,11 +1,21 @@
 package hello.typeconverter.formatter;
 
+import hello.typeconverter.conversion.CachingConversionService;
+import hello.typeconverter.conversion.DispatchTableConversionService;
 import hello.typeconverter.converter.IpPortToStringConverter;
 import hello.typeconverter.converter.StringToIpPortConverter;
 import hello.typeconverter.type.IpPort;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.format.DateTimeFormatters;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.NumberFormat;
 import org.springframework.format.support.DefaultFormattingConversionService;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class FormattingConversionServiceTest {
@@ -36,4 +46,80 @@ public class FormattingConversionServiceTest {
 
     }
 
+    @Test
+    void cachingConversionService(){
+        DefaultFormattingConversionService delegate = new DefaultFormattingConversionService();
+        delegate.addConverter(new StringToIpPortConverter());
+        delegate.addFormatter(new MyNumberFormatter());
+        CachingConversionService conversionService = new CachingConversionService(delegate, 100, Set.of(IpPort.class));
+
+        //불변 타입 결과는 캐시
+        IpPort ipPort = conversionService.convert("127.0.0.1:8080", IpPort.class);
+        assertThat(conversionService.convert("127.0.0.1:8080", IpPort.class)).isSameAs(ipPort);
+        assertThat(conversionService.convert("1,000", Long.class)).isEqualTo(1000L);
+        assertThat(conversionService.size()).isEqualTo(2);
+
+        //가변 타입(List)은 캐시하지 않는다
+        Object list = conversionService.convert("1,2", List.class);
+        assertThat((Object) conversionService.convert("1,2", List.class)).isNotSameAs(list);
+        assertThat(conversionService.size()).isEqualTo(2);
+
+        assertThat(conversionService.getStats())
+                .anySatisfy(stat -> {
+                    assertThat(stat.pair()).isEqualTo("String -> IpPort");
+                    assertThat(stat.hits()).isEqualTo(1);
+                    assertThat(stat.misses()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void cachingConversionServiceKeepsLocales() {
+        DefaultFormattingConversionService delegate = new DefaultFormattingConversionService();
+        delegate.addFormatter(new MyNumberFormatter());
+        CachingConversionService conversionService = new CachingConversionService(delegate, 100, Set.of());
+
+        try {
+            LocaleContextHolder.setLocale(Locale.US);
+            assertThat(conversionService.convert("10,000", Long.class)).isEqualTo(10000L);
+
+            //같은 입력이라도 로케일이 다르면 캐시된 결과를 쓰지 않는다 (독일어에서 ',' 는 소수점)
+            LocaleContextHolder.setLocale(Locale.GERMANY);
+            assertThat(conversionService.convert("10,000", Long.class)).isEqualTo(delegate.convert("10,000", Long.class));
+            assertThat(conversionService.convert("10,000", Long.class)).isEqualTo(10L);
+
+            LocaleContextHolder.setLocale(Locale.US);
+            assertThat(conversionService.convert("10,000", Long.class)).isEqualTo(10000L);
+            assertThat(conversionService.size()).isEqualTo(2);
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @NumberFormat(pattern = "###,###")
+    private Integer number;
+
+    @Test
+    void dispatchTableConversionService() throws NoSuchFieldException {
+        DispatchTableConversionService conversionService = new DispatchTableConversionService(new DateTimeFormatters());
+        conversionService.addConverter(new StringToIpPortConverter());
+        conversionService.addFormatter(new MyNumberFormatter());
+        conversionService.freeze(0);
+
+        //등록된 쌍은 처음부터 테이블에서 찾는다
+        assertThat(conversionService.convert("127.0.0.1:8080", IpPort.class)).isEqualTo(new IpPort("127.0.0.1", 8080));
+        assertThat(conversionService.getHits()).isEqualTo(1);
+
+        //처음 요청된 쌍은 원래 경로로 변환하고 테이블에 추가된다 (애노테이션이 붙은 필드 타입 포함)
+        TypeDescriptor field = new TypeDescriptor(getClass().getDeclaredField("number"));
+        assertThat(conversionService.convert("10,000", TypeDescriptor.valueOf(String.class), field)).isEqualTo(10000);
+        assertThat(conversionService.convert("1,000", Long.class)).isEqualTo(1000L);
+        long hits = conversionService.getHits();
+        long fallbacks = conversionService.getFallbacks();
+
+        assertThat(conversionService.convert("20,000", TypeDescriptor.valueOf(String.class), field)).isEqualTo(20000);
+        assertThat(conversionService.convert("2,000", Long.class)).isEqualTo(2000L);
+        assertThat(conversionService.getFallbacks()).isEqualTo(fallbacks);
+        assertThat(conversionService.getHits()).isGreaterThan(hits);
+    }
+
 }
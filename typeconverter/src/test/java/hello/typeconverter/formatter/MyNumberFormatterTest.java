@@ -3,7 +3,10 @@ package hello.typeconverter.formatter;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.List;
 import java.util.Locale;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,4 +27,38 @@ class MyNumberFormatterTest {
         assertThat(result).isEqualTo("1,000");
     }
 
-}
\ No newline at end of file
+    @Test
+    void sameAsNumberFormat() throws ParseException {
+        //직접 처리하는 경로도 NumberFormat.getInstance(locale) 와 결과가 같아야 한다
+        List<Locale> locales = List.of(Locale.KOREA, Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("ar", "EG"));
+        List<Number> numbers = List.of(0, 7, -7, 999, 1000, -1000, 1234567, Long.MAX_VALUE, Long.MIN_VALUE, 3.5, new BigDecimal("1234.5678"));
+        for (Locale locale : locales) {
+            NumberFormat numberFormat = NumberFormat.getInstance(locale);
+            for (Number number : numbers) {
+                String expected = numberFormat.format(number);
+                assertThat(formatter.print(number, locale)).as("%s %s", locale, number).isEqualTo(expected);
+                assertThat(formatter.parse(expected, locale)).as("%s %s", locale, expected).isEqualTo(numberFormat.parse(expected));
+            }
+            for (String text : List.of("1,0000", "-0", "12a", "1,,000", ",100", "100,", "1.5", "1234567890123456789012")) {
+                assertThat(parseOrNull(formatter, text, locale)).as("%s %s", locale, text).isEqualTo(parseOrNull(numberFormat, text));
+            }
+        }
+    }
+
+    private Number parseOrNull(MyNumberFormatter formatter, String text, Locale locale) {
+        try {
+            return formatter.parse(text, locale);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private Number parseOrNull(NumberFormat numberFormat, String text) {
+        try {
+            return numberFormat.parse(text);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+}
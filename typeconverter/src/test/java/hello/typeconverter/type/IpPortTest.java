@@ -0,0 +1,70 @@
+package hello.typeconverter.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IpPortTest {
+
+    @Test
+    void ipv4() {
+        IpPort ipPort = new IpPort("127.0.0.1", 8080);
+        assertThat(ipPort.isIpv4()).isTrue();
+        assertThat(ipPort.getIp()).isEqualTo("127.0.0.1");
+        assertThat(ipPort.getPort()).isEqualTo(8080);
+        assertThat(ipPort.toString()).isEqualTo("127.0.0.1:8080");
+    }
+
+    @Test
+    void ipv6() {
+        //같은 주소의 다른 표기는 같은 값, 문자열은 RFC 5952 표기
+        IpPort ipPort = new IpPort("2001:0DB8:0:0:0:0:0:1", 443);
+        assertThat(ipPort).isEqualTo(new IpPort("2001:db8::1", 443));
+        assertThat(ipPort.hashCode()).isEqualTo(new IpPort("2001:db8::1", 443).hashCode());
+        assertThat(ipPort.getIp()).isEqualTo("2001:db8::1");
+        assertThat(ipPort.toString()).isEqualTo("[2001:db8::1]:443");
+
+        assertThat(new IpPort("::", 80).getIp()).isEqualTo("::");
+        assertThat(new IpPort("1::", 80).getIp()).isEqualTo("1::");
+        assertThat(new IpPort("1:0:0:2:0:0:0:3", 80).getIp()).isEqualTo("1:0:0:2::3");
+        assertThat(new IpPort("64:ff9b::192.0.2.1", 80).getIp()).isEqualTo("64:ff9b::c000:201");
+    }
+
+    @Test
+    void parse() {
+        assertThat(IpPort.parse("10.0.0.1:80")).isEqualTo(new IpPort("10.0.0.1", 80));
+        assertThat(IpPort.parse("[fe80::1]:80")).isEqualTo(new IpPort("fe80::1", 80));
+        assertThatThrownBy(() -> IpPort.parse("[fe80::1:80"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("index=11");
+        assertThatThrownBy(() -> new IpPort("localhost", 80))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ipPortMap() {
+        IpPortMap<Integer> map = new IpPortMap<>();
+        Map<IpPort, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            IpPort key = new IpPort("10.0." + (i / 256) + "." + (i % 256), 8000 + i % 7);
+            map.put(key, i);
+            expected.put(key, i);
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+
+        //절반을 지워도 나머지는 그대로 찾을 수 있어야 한다
+        expected.keySet().removeIf(key -> key.hashCode() % 2 == 0 && map.remove(key) != null);
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+
+        Map<IpPort, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+}
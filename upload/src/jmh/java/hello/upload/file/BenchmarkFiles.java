@@ -0,0 +1,68 @@
+package hello.upload.file;
+
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 유틸
+ * - 작업 디렉토리는 -Djmh.fileDir 로 지정한 로컬 디스크 경로 (없으면 시스템 임시 디렉토리)
+ */
+final class BenchmarkFiles {
+
+    private BenchmarkFiles() {
+    }
+
+    static Path createWorkDir() throws IOException {
+        String base = System.getProperty("jmh.fileDir");
+        if (StringUtils.hasText(base)) {
+            return Files.createTempDirectory(Path.of(base), "filestore-bench");
+        }
+        return Files.createTempDirectory("filestore-bench");
+    }
+
+    static void deleteWorkDir(Path workDir) throws IOException {
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    //"1KB", "64KB", "1MB", "50MB" -> 바이트 수
+    static int parseSize(String size) {
+        if (size.endsWith("KB")) {
+            return Integer.parseInt(size.substring(0, size.length() - 2)) * 1024;
+        }
+        if (size.endsWith("MB")) {
+            return Integer.parseInt(size.substring(0, size.length() - 2)) * 1024 * 1024;
+        }
+        return Integer.parseInt(size);
+    }
+
+    //압축되지 않는 임의 데이터로 파일 생성
+    static Path createRandomFile(Path dir, String name, int size) throws IOException {
+        Path path = dir.resolve(name);
+        Random random = new Random(size);
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(path)) {
+            for (int written = 0; written < size; written += buffer.length) {
+                random.nextBytes(buffer);
+                out.write(buffer, 0, Math.min(buffer.length, size - written));
+            }
+        }
+        return path;
+    }
+
+    static FileStore createFileStore(Path fileDir) {
+        return createFileStore(fileDir, new FileSyncer(DurabilityMode.NONE, Duration.ZERO));
+    }
+
+    static FileStore createFileStore(Path fileDir, FileSyncer fileSyncer) {
+        return new FileStore(new FileVolumes(List.of(fileDir.toString())), fileSyncer);
+    }
+
+}
@@ -0,0 +1,73 @@
+package hello.upload.file;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 디스크에 임시 저장된 멀티파트 파일 (Tomcat 이 큰 Part 를 임시 파일로 받는 상황을 흉내)
+ * - 실제 Tomcat 은 가능하면 임시 파일을 rename 하지만, 반복 측정을 위해 항상 복사한다
+ */
+class DiskMultipartFile implements MultipartFile {
+
+    private final Path source;
+    private final String originalFilename;
+
+    DiskMultipartFile(Path source, String originalFilename) {
+        this.source = source;
+        this.originalFilename = originalFilename;
+    }
+
+    Path getSource() {
+        return source;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    @Override
+    public long getSize() {
+        try {
+            return Files.size(source);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(source);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(source);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(source, dest.toPath());
+    }
+
+}
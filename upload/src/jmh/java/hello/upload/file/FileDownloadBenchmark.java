@@ -0,0 +1,91 @@
+package hello.upload.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 다운로드 경로 벤치마크
+ * - resourceConverter: 컨트롤러가 반환한 UrlResource 를 ResourceHttpMessageConverter 로 쓰는 현재 방식
+ * - channelTransfer: FileChannel.transferTo 로 응답 채널에 바로 전송
+ * - 응답 본문은 버린다 (소켓 대신 null 스트림)
+ */
+@State(Scope.Thread)
+public class FileDownloadBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "10MB", "50MB"})
+    String size;
+
+    Path workDir;
+    FileStore fileStore;
+    String storeFileName = "stored.png";
+    ResourceHttpMessageConverter converter = new ResourceHttpMessageConverter();
+    HttpOutputMessage outputMessage;
+    WritableByteChannel sink;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = BenchmarkFiles.createWorkDir();
+        BenchmarkFiles.createRandomFile(workDir, storeFileName, BenchmarkFiles.parseSize(size));
+        fileStore = BenchmarkFiles.createFileStore(workDir);
+
+        OutputStream nullStream = OutputStream.nullOutputStream();
+        sink = Channels.newChannel(nullStream);
+        outputMessage = new HttpOutputMessage() {
+            private final HttpHeaders headers = new HttpHeaders();
+
+            @Override
+            public OutputStream getBody() {
+                return nullStream;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteWorkDir(workDir);
+    }
+
+    @Benchmark
+    public Resource resourceConverter() throws IOException {
+        Resource resource = new UrlResource("file:" + fileStore.getFullPath(storeFileName));
+        outputMessage.getHeaders().clear();
+        converter.write(resource, null, outputMessage);
+        return resource;
+    }
+
+    @Benchmark
+    public long channelTransfer() throws IOException {
+        try (FileChannel in = FileChannel.open(Path.of(fileStore.getFullPath(storeFileName)), StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, sink);
+            }
+            return position;
+        }
+    }
+
+}
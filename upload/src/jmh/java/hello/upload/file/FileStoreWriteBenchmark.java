@@ -0,0 +1,123 @@
+package hello.upload.file;
+
+import hello.upload.domain.UploadFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 저장 경로 벤치마크
+ * - storeFile: 실제 FileStore.storeFile (해시/CRC 계산 포함)
+ * - transferTo / streamCopy / channelCopy / mmap: 저장 방식별 순수 쓰기 비용 비교
+ * - 호출마다 새 파일에 쓰고, 반복(iteration)이 끝날 때 한꺼번에 삭제한다 (삭제 비용이 측정에 섞이지 않도록)
+ * - FileStore 도 반복마다 새로 만든다 (저장된 파일 메타데이터 맵이 계속 커지지 않도록)
+ * - 반복 시간을 1초로 줄여 디스크 사용량을 제한한다 (최대 크기 x 1초 동안의 호출 수)
+ */
+@State(Scope.Thread)
+@Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+public class FileStoreWriteBenchmark {
+
+    @Param({"1KB", "64KB", "1MB", "10MB", "50MB"})
+    String size;
+
+    Path workDir;
+    Path storeDir;
+    DiskMultipartFile multipartFile;
+    FileStore fileStore;
+    int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = BenchmarkFiles.createWorkDir();
+        storeDir = Files.createDirectory(workDir.resolve("store"));
+        Path source = BenchmarkFiles.createRandomFile(workDir, "upload.bin", BenchmarkFiles.parseSize(size));
+        multipartFile = new DiskMultipartFile(source, "upload.png");
+    }
+
+    @Setup(Level.Iteration)
+    public void createFileStore() {
+        fileStore = BenchmarkFiles.createFileStore(storeDir);
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanStoreDir() throws IOException {
+        try (var files = Files.list(storeDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteWorkDir(workDir);
+    }
+
+    @Benchmark
+    public UploadFile storeFile() throws IOException {
+        return fileStore.storeFile(multipartFile);
+    }
+
+    @Benchmark
+    public Path transferTo() throws IOException {
+        Path target = nextTarget();
+        multipartFile.transferTo(target.toFile());
+        return target;
+    }
+
+    @Benchmark
+    public long streamCopy() throws IOException {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return Files.copy(inputStream, nextTarget());
+        }
+    }
+
+    @Benchmark
+    public long channelCopy() throws IOException {
+        try (FileChannel in = FileChannel.open(multipartFile.getSource(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(nextTarget(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += out.transferFrom(in, position, size - position);
+            }
+            return position;
+        }
+    }
+
+    @Benchmark
+    public long mmap() throws IOException {
+        try (FileChannel in = FileChannel.open(multipartFile.getSource(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(nextTarget(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            MappedByteBuffer mapped = out.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            while (mapped.hasRemaining()) {
+                if (in.read(mapped) < 0) {
+                    break;
+                }
+            }
+            return size;
+        }
+    }
+
+    private Path nextTarget() {
+        return storeDir.resolve("target-" + sequence++ + ".bin");
+    }
+
+}
@@ -4,22 +4,27 @@ import hello.upload.domain.Item;
 import hello.upload.domain.ItemRepository;
 import hello.upload.domain.UploadFile;
 import hello.upload.file.FileStore;
+import hello.upload.file.FileZipWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.util.UriUtils;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Controller
 @Slf4j
@@ -28,6 +33,7 @@ public class ItemController {
 
     private final ItemRepository itemRepository;
     private final FileStore fileStore;
+    private final FileZipWriter fileZipWriter;
 
     @GetMapping("/items/new")
     public String newItem(@ModelAttribute ItemForm form){
@@ -61,15 +67,22 @@ public class ItemController {
     }
 
     @GetMapping("/images/{fileName}")
-    @ResponseBody
-    public Resource downloadImage(@PathVariable String fileName) throws MalformedURLException {
-        return new UrlResource("file:" + fileStore.getFullPath(fileName));
+    public ResponseEntity<Resource> downloadImage(@PathVariable String fileName) throws IOException {
+
+        UrlResource urlResource = new UrlResource("file:" + fileStore.getFullPath(fileName));
+
+        //UUID 저장 파일명은 같은 이름으로 다른 내용이 저장되지 않으므로 오래 캐시해도 된다
+        return validated(fileStore.findUploadFile(fileName), urlResource, CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .body(urlResource);
     }
 
     @GetMapping("/attach/{itemId}")
-    public ResponseEntity<Resource> downloadAttach(@PathVariable Long itemId) throws MalformedURLException {
+    public ResponseEntity<Resource> downloadAttach(@PathVariable Long itemId) throws IOException {
 
         Item item = itemRepository.findById(itemId);
+        if (item == null || item.getAttachFile() == null) {
+            return ResponseEntity.notFound().build();
+        }
         String storeFileName = item.getAttachFile().getStoreFileName();
         String uploadFileName = item.getAttachFile().getUploadFileName();
 
@@ -81,9 +94,57 @@ public class ItemController {
         //다운로드 처리를 위한 헤더 설정
         String contentDisposition = "attachment; filename=\"" + encodedUploadFileName + "\"";
 
-        return ResponseEntity.ok()
+        //상품 ID 는 재시작하면 다시 1부터 매겨지므로 같은 URL 이 다른 파일을 가리킬 수 있다, 매번 재검증한다
+        return validated(fileStore.findUploadFile(storeFileName), urlResource, CacheControl.noCache())
                 .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
                 .body(urlResource);
     }
 
+    /**
+     * 상품의 첨부파일과 이미지 파일 전체를 ZIP 으로 스트리밍 다운로드
+     * - StreamingResponseBody 로 응답 스트림에 바로 쓰므로 임시 파일이 없다
+     */
+    @GetMapping("/items/{itemId}/files")
+    public ResponseEntity<StreamingResponseBody> downloadAllFiles(@PathVariable Long itemId) {
+
+        Item item = itemRepository.findById(itemId);
+        if (item == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<UploadFile> uploadFiles = new ArrayList<>();
+        if (item.getAttachFile() != null) {
+            uploadFiles.add(item.getAttachFile());
+        }
+        if (item.getImageFiles() != null) {
+            uploadFiles.addAll(item.getImageFiles());
+        }
+
+        String contentDisposition = "attachment; filename=\"item-" + itemId + ".zip\"";
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .body(outputStream -> fileZipWriter.write(uploadFiles, outputStream));
+    }
+
+    /**
+     * 저장 시점에 계산한 해시로 강한 ETag, 저장 시각으로 Last-Modified 를 설정한다
+     * - If-None-Match / If-Modified-Since 가 맞으면 HttpEntityMethodProcessor 가 body 를 쓰지 않고 304 로 응답한다 (파일을 열지 않음)
+     * - 재시작 등으로 FileStore 메타데이터(해시)가 없으면 ETag, immutable 없이 파일 수정 시각으로만 재검증한다
+     */
+    private ResponseEntity.BodyBuilder validated(UploadFile uploadFile, Resource resource, CacheControl cacheControl) throws IOException {
+        if (uploadFile != null && uploadFile.getContentHash() != null) {
+            return ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .eTag(uploadFile.getContentHash())
+                    .lastModified(uploadFile.getLastModified());
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (resource.exists()) {
+            builder.lastModified(resource.lastModified());
+        }
+        return builder;
+    }
+
 }
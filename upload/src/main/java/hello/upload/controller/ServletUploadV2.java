@@ -1,10 +1,11 @@
 package hello.upload.controller;
 
+import hello.upload.file.FileStore;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
@@ -19,11 +20,11 @@ import java.util.Collection;
 
 @Controller
 @Slf4j
+@RequiredArgsConstructor
 @RequestMapping("/servlet/v2")
 public class ServletUploadV2 {
 
-    @Value("${file.dir}")
-    private String fileDir;
+    private final FileStore fileStore;
 
     @GetMapping("/upload")
     public String newFile() {
@@ -61,7 +62,7 @@ public class ServletUploadV2 {
 
             //파일 저장
             if(StringUtils.hasText(part.getSubmittedFileName())){
-                String fullPath = fileDir + part.getSubmittedFileName();
+                String fullPath = fileStore.getFullPath(part.getSubmittedFileName());
                 log.info("파일 저장 fullPath = {}", fullPath);
                 part.write(fullPath); //Part 를 통해 전송된 데이터 저장
             }
@@ -1,8 +1,9 @@
 package hello.upload.controller;
 
+import hello.upload.file.FileStore;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,11 +16,11 @@ import java.io.IOException;
 
 @Controller
 @Slf4j
+@RequiredArgsConstructor
 @RequestMapping("/spring")
 public class SpringUploadController {
 
-    @Value("${file.dir}")
-    private String fileDir;
+    private final FileStore fileStore;
 
     @GetMapping("/upload")
     public String newFile() {
@@ -38,7 +39,7 @@ public class SpringUploadController {
         log.info("multipartFile = {}", file);
 
         if(!file.isEmpty()){
-            String fullPath = fileDir + file.getOriginalFilename(); //업로드 파일명
+            String fullPath = fileStore.getFullPath(file.getOriginalFilename()); //업로드 파일명
             log.info("파일 저장 fullPath ={}", fullPath);
             file.transferTo(new File(fullPath)); //파일 저장
         }
@@ -7,10 +7,23 @@ public class UploadFile {
 
     private String uploadFileName; //클라이언트 업로드 파일명
     private String storeFileName; //서버에서 관리할 파일명
+    private String contentHash; //저장 시점에 계산한 내용 해시 (ETag 로 사용)
+    private long lastModified; //저장 시각 (epoch millis)
+    private long size; //저장된 파일 크기
+    private long crc32; //저장 시점에 계산한 CRC-32 (ZIP STORED 엔트리에 사용)
 
     public UploadFile(String uploadFileName, String storeFileName) {
         this.uploadFileName = uploadFileName;
         this.storeFileName = storeFileName;
     }
 
-}
\ No newline at end of file
+    public UploadFile(String uploadFileName, String storeFileName, String contentHash, long lastModified, long size, long crc32) {
+        this.uploadFileName = uploadFileName;
+        this.storeFileName = storeFileName;
+        this.contentHash = contentHash;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.crc32 = crc32;
+    }
+
+}
@@ -0,0 +1,12 @@
+package hello.upload.file;
+
+/**
+ * 업로드 파일 저장 후 디스크 동기화(fsync) 정책
+ */
+public enum DurabilityMode {
+
+    NONE, //fsync 하지 않음 (OS 페이지 캐시에 맡김)
+    PER_FILE, //파일마다 fsync
+    GROUP_COMMIT //짧은 시간 안에 끝난 업로드들을 모아서 한 번에 fsync
+
+}
@@ -1,24 +1,46 @@
 package hello.upload.file;
 
 import hello.upload.domain.UploadFile;
-import org.springframework.beans.factory.annotation.Value;
+import hello.upload.multipart.InspectedMultipartFile;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 @Component
+@RequiredArgsConstructor
 public class FileStore {
 
-    @Value("${file.dir}")
-    private String fileDir;
+    private final FileVolumes fileVolumes;
+    private final FileSyncer fileSyncer;
 
+    //저장된 파일 메타데이터 (storeFileName -> UploadFile), 다운로드 시 파일을 열지 않고 ETag 를 만들기 위해 사용
+    private final Map<String, UploadFile> storedFiles = new ConcurrentHashMap<>();
+
+    //저장된 파일 경로 (볼륨은 파일명으로 계산한다)
     public String getFullPath(String fileName){
-        return fileDir + fileName;
+        return fileVolumes.locate(fileName).toString();
+    }
+
+    public UploadFile findUploadFile(String storeFileName) {
+        return storedFiles.get(storeFileName);
     }
 
     public List<UploadFile> storeFiles(List<MultipartFile> multipartFiles) throws IOException {
@@ -41,16 +63,41 @@ public class FileStore {
         }
 
         String originalFileName = multipartFile.getOriginalFilename();
-        String storeFileName = createStoreFileName(originalFileName);
-        multipartFile.transferTo(new File(getFullPath(storeFileName)));
+        String storeFileName = createStoreFileName(originalFileName, multipartFile);
+
+        //파일 저장과 동시에 내용 해시, CRC 계산 (한 번만 읽는다)
+        MessageDigest digest = createDigest();
+        CRC32 crc = new CRC32();
+        Path path = fileVolumes.placementOf(storeFileName);
+        long size;
+        try (InputStream inputStream = new CheckedInputStream(new DigestInputStream(multipartFile.getInputStream(), digest), crc);
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            size = inputStream.transferTo(Channels.newOutputStream(channel));
+            fileSyncer.sync(channel, path.getParent()); //file.durability 정책에 따라 fsync
+        }
+        String contentHash = HexFormat.of().formatHex(digest.digest());
 
-        return new UploadFile(originalFileName, storeFileName);
+        UploadFile uploadFile = new UploadFile(originalFileName, storeFileName, contentHash,
+                System.currentTimeMillis(), size, crc.getValue());
+        storedFiles.put(storeFileName, uploadFile);
+        return uploadFile;
+    }
+
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     //서버에 저장하 파일명 추철
-    private String createStoreFileName(String originalFileName) {
+    private String createStoreFileName(String originalFileName, MultipartFile multipartFile) {
         String uuid = UUID.randomUUID().toString();
-        String ext = extractExt(originalFileName);
+        //내용 검사를 거친 파일은 판별된 실제 타입의 확장자를 사용
+        String ext = multipartFile instanceof InspectedMultipartFile inspected
+                ? inspected.getFileType().getExtension()
+                : extractExt(originalFileName);
         return uuid + "." + ext;
     }
 
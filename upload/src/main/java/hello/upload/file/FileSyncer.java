@@ -0,0 +1,242 @@
+package hello.upload.file;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장한 파일을 디스크에 동기화한다 (file.durability)
+ * - none: 아무것도 하지 않는다
+ * - per-file: 파일마다 force + 디렉토리 fsync
+ * - group-commit: 호출 스레드는 요청을 큐에 넣고 기다린다.
+ *   flusher 스레드가 window 동안 들어온 요청을 모아 채널들을 force 하고 디렉토리 fsync 는 디렉토리당 한 번만 한 뒤 모두 깨운다.
+ *   응답(redirect)은 fsync 가 끝난 다음에 나간다
+ *   종료(shutdown) 이후에 들어온 요청이나 flusher 가 제시간에 가져가지 못한 요청은 호출 스레드에서 직접 동기화한다
+ */
+@Slf4j
+@Component
+public class FileSyncer {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final DurabilityMode mode;
+    private final long windowNanos;
+    private final BlockingQueue<SyncRequest> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private volatile boolean running = true;
+    private volatile boolean directorySyncSupported = true;
+    private final AtomicLong groupCommits = new AtomicLong();
+
+    public FileSyncer(@Value("${file.durability:none}") DurabilityMode mode,
+                      @Value("${file.group-commit-window:2ms}") Duration window) {
+        this.mode = mode;
+        this.windowNanos = window.toNanos();
+
+        if (mode == DurabilityMode.GROUP_COMMIT) {
+            flusher = new Thread(this::runFlusher, "file-group-commit");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            flusher = null;
+        }
+    }
+
+    public DurabilityMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 경로로 파일 내용을 동기화한다 (파일 이동처럼 호출한 쪽이 순서를 정해야 하는 경우). none 이면 아무것도 하지 않는다
+     */
+    public void syncFile(Path file) throws IOException {
+        if (mode == DurabilityMode.NONE) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 디렉토리 엔트리(생성, rename, 삭제)를 동기화한다. none 이면 아무것도 하지 않는다
+     */
+    public void syncDir(Path dir) throws IOException {
+        if (mode == DurabilityMode.NONE) {
+            return;
+        }
+        syncDirectory(dir);
+    }
+
+    //flusher 가 처리한 묶음 수
+    long getGroupCommitCount() {
+        return groupCommits.get();
+    }
+
+    /**
+     * 채널에 쓴 내용과 디렉토리 엔트리가 디스크에 기록될 때까지 기다린다 (채널은 호출한 쪽에서 닫는다)
+     */
+    public void sync(FileChannel channel, Path dir) throws IOException {
+        switch (mode) {
+            case NONE -> {
+            }
+            case PER_FILE -> syncNow(channel, dir);
+            case GROUP_COMMIT -> awaitGroupCommit(channel, dir);
+        }
+    }
+
+    private void awaitGroupCommit(FileChannel channel, Path dir) throws IOException {
+        if (!running) {
+            syncNow(channel, dir);
+            return;
+        }
+
+        SyncRequest request = new SyncRequest(channel, dir, new CompletableFuture<>());
+        queue.add(request);
+        //shutdown 과 경합해 flusher 가 이미 끝났다면 큐에서 되찾아 직접 처리한다
+        if (!flusher.isAlive() && queue.remove(request)) {
+            syncNow(channel, dir);
+            return;
+        }
+
+        try {
+            request.done().get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(request)) {
+                syncNow(channel, dir);
+                return;
+            }
+            throw new IOException("group commit 대기 시간 초과 timeout=" + AWAIT_TIMEOUT + " dir=" + dir, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("group commit 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    //flusher 는 인터럽트하지 않는다 (force 중 인터럽트되면 FileChannel 이 닫혀 버린다)
+    private void runFlusher() {
+        while (running || !queue.isEmpty()) {
+            List<SyncRequest> batch = new ArrayList<>();
+            try {
+                SyncRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                //첫 요청 이후 window 동안 들어오는 요청을 모은다
+                long deadline = System.nanoTime() + windowNanos;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    SyncRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            flush(batch);
+        }
+    }
+
+    private void flush(List<SyncRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<SyncRequest, IOException> failures = new HashMap<>();
+        Set<Path> dirs = new LinkedHashSet<>();
+        for (SyncRequest request : batch) {
+            try {
+                request.channel().force(true);
+                dirs.add(request.dir());
+            } catch (IOException e) {
+                failures.put(request, e);
+            }
+        }
+
+        Map<Path, IOException> dirFailures = new HashMap<>();
+        for (Path dir : dirs) {
+            try {
+                syncDirectory(dir);
+            } catch (IOException e) {
+                dirFailures.put(dir, e);
+            }
+        }
+
+        for (SyncRequest request : batch) {
+            IOException failure = failures.getOrDefault(request, dirFailures.get(request.dir()));
+            if (failure != null) {
+                request.done().completeExceptionally(failure);
+            } else {
+                request.done().complete(null);
+            }
+        }
+        groupCommits.incrementAndGet();
+        log.debug("group commit size={} dirs={}", batch.size(), dirs.size());
+    }
+
+    private void syncNow(FileChannel channel, Path dir) throws IOException {
+        channel.force(true);
+        syncDirectory(dir);
+    }
+
+    //새 파일의 디렉토리 엔트리 동기화. 디렉토리를 열 수 없는 플랫폼(Windows)에서는 건너뛴다
+    private void syncDirectory(Path dir) throws IOException {
+        if (!directorySyncSupported) {
+            return;
+        }
+        FileChannel dirChannel;
+        try {
+            dirChannel = FileChannel.open(dir, StandardOpenOption.READ);
+        } catch (IOException e) {
+            directorySyncSupported = false;
+            log.warn("디렉토리 fsync 를 지원하지 않는 플랫폼입니다. dir={}", dir, e);
+            return;
+        }
+        try (dirChannel) {
+            dirChannel.force(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private record SyncRequest(FileChannel channel, Path dir, CompletableFuture<Void> done) {
+    }
+
+}
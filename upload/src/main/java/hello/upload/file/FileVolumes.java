@@ -0,0 +1,111 @@
+package hello.upload.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 저장 디렉토리(볼륨) 목록 - file.dir 에 쉼표로 여러 디렉토리를 지정할 수 있다
+ * - 파일 배치는 rendezvous(HRW) 해싱: 저장 파일명과 볼륨마다 점수를 계산해 가장 높은 볼륨에 둔다
+ * - 읽을 때도 파일명만으로 볼륨을 계산하므로 조회 테이블이 필요 없다
+ * - 볼륨이 추가되면 일부 파일만 새 볼륨이 1순위가 된다. 재배치가 끝나기 전에는 다음 순위 볼륨에 있으므로 순위 순서대로 찾는다
+ */
+@Slf4j
+@Component
+public class FileVolumes {
+
+    private final List<Path> volumes;
+    private final long[] seeds;
+
+    public FileVolumes(@Value("${file.dir}") List<String> dirs) {
+        List<Path> paths = new ArrayList<>();
+        for (String dir : dirs) {
+            if (!dir.isBlank()) {
+                paths.add(Path.of(dir.trim()).toAbsolutePath().normalize());
+            }
+        }
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("file.dir 에 저장 디렉토리가 없습니다.");
+        }
+
+        this.volumes = List.copyOf(paths);
+        this.seeds = new long[volumes.size()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = mix(volumes.get(i).toString().hashCode());
+        }
+        log.info("file volumes = {}", volumes);
+    }
+
+    public List<Path> getVolumes() {
+        return volumes;
+    }
+
+    //새로 저장할 파일의 위치 (1순위 볼륨)
+    public Path placementOf(String fileName) {
+        return volumes.get(ownerIndex(fileName)).resolve(fileName);
+    }
+
+    //저장된 파일의 위치. 순위 순서대로 찾고, 어디에도 없으면 1순위 위치
+    public Path locate(String fileName) {
+        if (volumes.size() == 1) {
+            return volumes.get(0).resolve(fileName);
+        }
+        for (Path volume : rank(fileName)) {
+            Path path = volume.resolve(fileName);
+            if (Files.exists(path)) {
+                return path;
+            }
+        }
+        return placementOf(fileName);
+    }
+
+    public Path ownerOf(String fileName) {
+        return volumes.get(ownerIndex(fileName));
+    }
+
+    private int ownerIndex(String fileName) {
+        long nameHash = mix(fileName.hashCode());
+        int owner = 0;
+        long best = Long.MIN_VALUE;
+        for (int i = 0; i < seeds.length; i++) {
+            long score = mix(nameHash ^ seeds[i]);
+            if (score > best) {
+                best = score;
+                owner = i;
+            }
+        }
+        return owner;
+    }
+
+    private List<Path> rank(String fileName) {
+        long nameHash = mix(fileName.hashCode());
+        List<Integer> indexes = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            indexes.add(i);
+        }
+        indexes.sort(Comparator.comparingLong((Integer i) -> mix(nameHash ^ seeds[i])).reversed());
+
+        List<Path> ranked = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            ranked.add(volumes.get(index));
+        }
+        return ranked;
+    }
+
+    //64bit 해시 섞기 (MurmurHash3 fmix64)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -0,0 +1,87 @@
+package hello.upload.file;
+
+import hello.upload.domain.UploadFile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 저장된 파일들을 ZIP 으로 묶어 OutputStream 에 바로 쓴다
+ * - 임시 파일 없이 파일 하나씩 작은 버퍼로 복사하므로 메모리 사용량이 파일 크기와 무관하다
+ * - 이미 압축된 포맷(이미지 등)은 저장 시점에 계산해 둔 CRC, 크기로 STORED 엔트리를 만들어 압축 CPU 를 아낀다
+ * - 클라이언트 연결이 끊기면 write 에서 IOException 이 발생하고 그 즉시 중단된다
+ */
+@Component
+@RequiredArgsConstructor
+public class FileZipWriter {
+
+    private static final Set<String> COMPRESSED_EXTS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "avif",
+            "zip", "gz", "7z", "rar", "mp3", "mp4", "mov");
+
+    private final FileStore fileStore;
+
+    public void write(List<UploadFile> uploadFiles, OutputStream outputStream) throws IOException {
+
+        ZipOutputStream zipOut = new ZipOutputStream(outputStream);
+        Set<String> entryNames = new HashSet<>();
+
+        for (UploadFile uploadFile : uploadFiles) {
+            Path path = Path.of(fileStore.getFullPath(uploadFile.getStoreFileName()));
+
+            ZipEntry entry = new ZipEntry(uniqueEntryName(uploadFile, entryNames));
+            entry.setTime(uploadFile.getLastModified() > 0 ? uploadFile.getLastModified() : Files.getLastModifiedTime(path).toMillis());
+            if (isStored(uploadFile)) {
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(uploadFile.getSize());
+                entry.setCompressedSize(uploadFile.getSize());
+                entry.setCrc(uploadFile.getCrc32());
+            }
+
+            zipOut.putNextEntry(entry);
+            Files.copy(path, zipOut);
+            zipOut.closeEntry();
+        }
+
+        //응답 스트림은 컨테이너가 닫는다
+        zipOut.finish();
+        zipOut.flush();
+    }
+
+    //CRC 를 미리 알고 있는 이미 압축된 파일만 STORED, 나머지는 DEFLATED
+    private boolean isStored(UploadFile uploadFile) {
+        if (uploadFile.getContentHash() == null) {
+            return false;
+        }
+        String ext = StringUtils.getFilenameExtension(uploadFile.getStoreFileName());
+        return ext != null && COMPRESSED_EXTS.contains(ext.toLowerCase(Locale.ROOT));
+    }
+
+    //클라이언트 파일명에서 경로를 제거하고, 같은 이름이 있으면 (n) 을 붙인다
+    private String uniqueEntryName(UploadFile uploadFile, Set<String> entryNames) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(uploadFile.getUploadFileName()));
+        if (!StringUtils.hasText(name)) {
+            name = uploadFile.getStoreFileName();
+        }
+
+        String candidate = name;
+        for (int i = 1; !entryNames.add(candidate); i++) {
+            String ext = StringUtils.getFilenameExtension(name);
+            String base = StringUtils.stripFilenameExtension(name);
+            candidate = base + "(" + i + ")" + (ext != null ? "." + ext : "");
+        }
+        return candidate;
+    }
+
+}
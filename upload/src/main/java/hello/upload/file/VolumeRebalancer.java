@@ -0,0 +1,99 @@
+package hello.upload.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 볼륨 재배치 - 애플리케이션 시작 후 백그라운드 스레드에서 1순위 볼륨이 아닌 곳에 있는 파일을 옮긴다
+ * - 볼륨을 추가하고 재시작하면 새 볼륨이 1순위가 된 파일들만 이동한다
+ * - 대상 볼륨에 임시 파일로 복사한 뒤 rename 하므로 읽는 쪽은 완성된 파일만 보게 된다. 그 다음 원본을 지운다
+ * - file.durability 가 none 이 아니면 복사본 force → rename → 대상 디렉토리 fsync → 원본 삭제 → 원본 디렉토리 fsync 순서로 진행한다
+ *   (장애가 나도 두 볼륨 모두에서 파일이 사라지는 순간이 없도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VolumeRebalancer {
+
+    private static final String TEMP_PREFIX = ".rebalance-";
+
+    private final FileVolumes fileVolumes;
+    private final FileSyncer fileSyncer;
+
+    @Value("${file.rebalance-on-startup:true}")
+    private boolean rebalanceOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!rebalanceOnStartup || fileVolumes.getVolumes().size() < 2) {
+            return;
+        }
+        Thread thread = new Thread(this::rebalance, "file-rebalancer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    public void rebalance() {
+        int moved = 0;
+        for (Path volume : fileVolumes.getVolumes()) {
+            if (!Files.isDirectory(volume)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(volume)) {
+                files = stream.filter(Files::isRegularFile).toList();
+            } catch (IOException e) {
+                log.warn("볼륨 목록 조회 실패 volume={}", volume, e);
+                continue;
+            }
+
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(TEMP_PREFIX)) {
+                    continue;
+                }
+                Path owner = fileVolumes.ownerOf(fileName);
+                if (owner.equals(volume)) {
+                    continue;
+                }
+                try {
+                    if (move(file, owner.resolve(fileName))) {
+                        moved++;
+                    }
+                } catch (IOException e) {
+                    log.warn("파일 재배치 실패 file={} target={}", file, owner, e);
+                }
+            }
+        }
+        log.info("볼륨 재배치 완료 moved={}", moved);
+    }
+
+    private boolean move(Path source, Path target) throws IOException {
+        if (Files.exists(target)) {
+            log.warn("재배치 대상에 같은 파일이 이미 있습니다. source={} target={}", source, target);
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(TEMP_PREFIX + target.getFileName());
+        Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        fileSyncer.syncFile(temp);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        fileSyncer.syncDir(target.getParent());
+        Files.delete(source);
+        fileSyncer.syncDir(source.getParent());
+        return true;
+    }
+
+}
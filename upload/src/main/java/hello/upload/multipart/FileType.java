@@ -0,0 +1,91 @@
+package hello.upload.multipart;
+
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 매직 넘버로 판별하는 실제 파일 타입
+ * - 클라이언트가 보낸 파일명 확장자나 Content-Type 은 믿지 않는다
+ */
+public enum FileType {
+
+    PNG("png", "image/png", DataSize.ofMegabytes(10)),
+    JPEG("jpg", "image/jpeg", DataSize.ofMegabytes(10)),
+    GIF("gif", "image/gif", DataSize.ofMegabytes(10)),
+    WEBP("webp", "image/webp", DataSize.ofMegabytes(10)),
+    PDF("pdf", "application/pdf", DataSize.ofMegabytes(20)),
+    ZIP("zip", "application/zip", DataSize.ofMegabytes(50));
+
+    //판별에 필요한 최대 앞부분 바이트 수
+    public static final int SNIFF_LENGTH = 12;
+
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] GIF87_MAGIC = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GIF89_MAGIC = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF_MAGIC = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP_MAGIC = "WEBP".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 0x03, 0x04};
+
+    private final String extension;
+    private final String mimeType;
+    private final DataSize defaultMaxSize;
+
+    FileType(String extension, String mimeType, DataSize defaultMaxSize) {
+        this.extension = extension;
+        this.mimeType = mimeType;
+        this.defaultMaxSize = defaultMaxSize;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public DataSize getDefaultMaxSize() {
+        return defaultMaxSize;
+    }
+
+    /**
+     * 앞부분 바이트로 타입 판별, 알 수 없으면 null
+     */
+    public static FileType detect(byte[] head, int length) {
+        if (startsWith(head, length, PNG_MAGIC, 0)) {
+            return PNG;
+        }
+        if (startsWith(head, length, JPEG_MAGIC, 0)) {
+            return JPEG;
+        }
+        if (startsWith(head, length, GIF87_MAGIC, 0) || startsWith(head, length, GIF89_MAGIC, 0)) {
+            return GIF;
+        }
+        if (startsWith(head, length, RIFF_MAGIC, 0) && startsWith(head, length, WEBP_MAGIC, 8)) {
+            return WEBP;
+        }
+        if (startsWith(head, length, PDF_MAGIC, 0)) {
+            return PDF;
+        }
+        if (startsWith(head, length, ZIP_MAGIC, 0)) {
+            return ZIP;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] magic, int offset) {
+        if (length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[offset + i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,87 @@
+package hello.upload.multipart;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 검사를 통과해 임시 파일에 받아 둔 멀티파트 파일
+ * - getContentType 은 클라이언트 값이 아니라 매직 넘버로 판별한 타입
+ */
+public class InspectedMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final FileType fileType;
+    private final Path tempFile;
+    private final long size;
+
+    public InspectedMultipartFile(String name, String originalFilename, FileType fileType, Path tempFile, long size) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.fileType = fileType;
+        this.tempFile = tempFile;
+        this.size = size;
+    }
+
+    //파일을 선택하지 않은 파트
+    public static InspectedMultipartFile empty(String name) {
+        return new InspectedMultipartFile(name, "", null, null, 0);
+    }
+
+    public FileType getFileType() {
+        return fileType;
+    }
+
+    public Path getTempFile() {
+        return tempFile;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return fileType != null ? fileType.getMimeType() : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return tempFile != null ? Files.readAllBytes(tempFile) : new byte[0];
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return tempFile != null ? Files.newInputStream(tempFile) : new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        if (tempFile != null) {
+            Files.copy(tempFile, dest.toPath());
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+package hello.upload.multipart;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.http.fileupload.FileItemIterator;
+import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.FileUpload;
+import org.apache.tomcat.util.http.fileupload.MultipartStream;
+import org.apache.tomcat.util.http.fileupload.impl.SizeException;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletRequestContext;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.DefaultMultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 멀티파트 본문을 받는 도중에 검사하는 MultipartResolver
+ * - 컨테이너가 본문 전체를 받은 뒤 파싱하는 대신, 파트를 스트리밍으로 읽으면서 앞부분 바이트로 실제 타입을 판별하고 타입별 크기 제한을 적용한다
+ * - 위반을 발견하면 그 자리에서 예외를 던지고 남은 본문은 읽지 않는다 (Tomcat 은 남은 본문이 maxSwallowSize 를 넘으면 연결을 끊는다)
+ * - paths 에 해당하지 않는 요청(예: Part 를 직접 다루는 ServletUploadV1/V2)은 기본 StandardServletMultipartResolver 로 처리한다
+ */
+@Slf4j
+public class InspectingMultipartResolver implements MultipartResolver {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final StandardServletMultipartResolver delegate = new StandardServletMultipartResolver();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final List<String> paths;
+    private final Set<FileType> allowedTypes;
+    private final Map<FileType, Long> maxSizes;
+    private final long maxRequestSize;
+    private final Path tempDir;
+
+    public InspectingMultipartResolver(List<String> paths, Set<FileType> allowedTypes, Map<FileType, Long> maxSizes,
+                                       long maxRequestSize, Path tempDir) {
+        this.paths = paths;
+        this.allowedTypes = allowedTypes;
+        this.maxSizes = maxSizes;
+        this.maxRequestSize = maxRequestSize;
+        this.tempDir = tempDir;
+    }
+
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return delegate.isMultipart(request);
+    }
+
+    @Override
+    public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+        if (!isInspected(request)) {
+            return delegate.resolveMultipart(request);
+        }
+
+        MultiValueMap<String, MultipartFile> files = new LinkedMultiValueMap<>();
+        Map<String, List<String>> params = new HashMap<>();
+        Charset charset = request.getCharacterEncoding() != null ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+
+        try {
+            FileUpload upload = new FileUpload();
+            upload.setSizeMax(maxRequestSize);
+            FileItemIterator iterator = upload.getItemIterator(new ServletRequestContext(request));
+
+            while (iterator.hasNext()) {
+                FileItemStream item = iterator.next();
+                try (InputStream inputStream = item.openStream()) {
+                    if (item.isFormField()) {
+                        params.computeIfAbsent(item.getFieldName(), k -> new ArrayList<>())
+                                .add(StreamUtils.copyToString(inputStream, charset));
+                    } else {
+                        files.add(item.getFieldName(), receive(item, inputStream));
+                    }
+                }
+            }
+        } catch (MultipartException e) {
+            deleteTempFiles(files);
+            throw e;
+        } catch (IOException e) {
+            deleteTempFiles(files);
+            //요청 전체 크기 초과는 파트 스트림 안에서 원인(cause)으로 감싸져 올라올 수 있다
+            if (e instanceof SizeException || e.getCause() instanceof SizeException) {
+                throw new MaxUploadSizeExceededException(maxRequestSize, e);
+            }
+            throw new MultipartException("멀티파트 요청을 읽지 못했습니다.", e);
+        }
+
+        Map<String, String[]> parameters = new HashMap<>();
+        params.forEach((name, values) -> parameters.put(name, values.toArray(String[]::new)));
+        return new DefaultMultipartHttpServletRequest(request, files, parameters, new HashMap<>());
+    }
+
+    //앞부분으로 타입을 판별하고, 나머지를 임시 파일로 받으면서 크기를 검사한다
+    private InspectedMultipartFile receive(FileItemStream item, InputStream inputStream) throws IOException {
+        String fileName = item.getName();
+        byte[] head = inputStream.readNBytes(FileType.SNIFF_LENGTH);
+        if (head.length == 0) {
+            return InspectedMultipartFile.empty(item.getFieldName());
+        }
+
+        FileType fileType = FileType.detect(head, head.length);
+        if (fileType == null || !allowedTypes.contains(fileType)) {
+            log.info("업로드 거부 (지원하지 않는 타입) field={} fileName={} detected={}", item.getFieldName(), fileName, fileType);
+            abort(inputStream);
+            throw new UnsupportedUploadTypeException("지원하지 않는 파일 형식입니다. fileName=" + fileName);
+        }
+
+        long maxSize = maxSizes.get(fileType);
+        Path tempFile = Files.createTempFile(tempDir, "upload-", ".tmp");
+        long size = head.length;
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            out.write(head);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSize) {
+                    log.info("업로드 거부 (크기 초과) field={} fileName={} type={} max={}", item.getFieldName(), fileName, fileType, maxSize);
+                    abort(inputStream);
+                    throw new MaxUploadSizeExceededException(maxSize);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        return new InspectedMultipartFile(item.getFieldName(), fileName, fileType, tempFile, size);
+    }
+
+    //파트 스트림의 일반 close 는 파트 끝까지 읽고 버리므로, 거부할 때는 하부 요청 스트림째 닫아 더 읽지 않는다
+    private static void abort(InputStream inputStream) {
+        if (inputStream instanceof MultipartStream.ItemInputStream itemInputStream) {
+            try {
+                itemInputStream.close(true);
+            } catch (IOException e) {
+                log.debug("업로드 스트림 닫기 실패", e);
+            }
+        }
+    }
+
+    private boolean isInspected(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : paths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void cleanupMultipart(MultipartHttpServletRequest request) {
+        if (!(request instanceof DefaultMultipartHttpServletRequest)) {
+            delegate.cleanupMultipart(request);
+            return;
+        }
+        deleteTempFiles(request.getMultiFileMap());
+    }
+
+    private void deleteTempFiles(MultiValueMap<String, MultipartFile> files) {
+        for (List<MultipartFile> list : files.values()) {
+            for (MultipartFile file : list) {
+                if (file instanceof InspectedMultipartFile inspected && inspected.getTempFile() != null) {
+                    try {
+                        Files.deleteIfExists(inspected.getTempFile());
+                    } catch (IOException e) {
+                        log.warn("임시 파일 삭제 실패 file={}", inspected.getTempFile(), e);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package hello.upload.multipart;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.multipart.MultipartException;
+
+@ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+public class UnsupportedUploadTypeException extends MultipartException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedUploadTypeException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,68 @@
+package hello.upload.multipart;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * file.inspection.enabled=true 이면 기본 MultipartResolver 대신 InspectingMultipartResolver 를 사용한다
+ * - 타입별 크기 제한: file.inspection.max-size.{png,jpeg,gif,webp,pdf,zip}
+ * - 지정하지 않은 타입은 FileType 기본값과 spring.servlet.multipart.max-file-size 중 작은 값을 쓴다
+ *   (기본 검사를 켜도 전역 파일 크기 제한보다 느슨해지지 않도록. 더 크게 허용하려면 타입별 값을 직접 지정한다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "file.inspection.enabled", havingValue = "true")
+public class UploadInspectionConfig {
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(@Value("${file.inspection.paths:/items/**,/spring/**}") List<String> paths,
+                                               @Value("${file.inspection.allowed-types:png,jpeg,gif,webp,pdf,zip}") List<String> allowedTypes,
+                                               MultipartProperties multipartProperties,
+                                               Environment environment) {
+
+        Set<FileType> allowed = EnumSet.noneOf(FileType.class);
+        for (String type : allowedTypes) {
+            allowed.add(FileType.valueOf(type.trim().toUpperCase(Locale.ROOT)));
+        }
+
+        Map<FileType, Long> maxSizes = maxSizes(multipartProperties, environment);
+
+        String location = multipartProperties.getLocation();
+        Path tempDir = StringUtils.hasText(location) ? Path.of(location) : Path.of(System.getProperty("java.io.tmpdir"));
+
+        return new InspectingMultipartResolver(paths, allowed, maxSizes,
+                multipartProperties.getMaxRequestSize().toBytes(), tempDir);
+    }
+
+    static Map<FileType, Long> maxSizes(MultipartProperties multipartProperties, Environment environment) {
+        //음수이면 제한 없음
+        long maxFileSize = multipartProperties.getMaxFileSize().toBytes();
+
+        Map<FileType, Long> maxSizes = new EnumMap<>(FileType.class);
+        for (FileType fileType : FileType.values()) {
+            long defaultMaxSize = fileType.getDefaultMaxSize().toBytes();
+            if (maxFileSize >= 0) {
+                defaultMaxSize = Math.min(defaultMaxSize, maxFileSize);
+            }
+            String key = "file.inspection.max-size." + fileType.name().toLowerCase(Locale.ROOT);
+            maxSizes.put(fileType, environment.getProperty(key, DataSize.class, DataSize.ofBytes(defaultMaxSize)).toBytes());
+        }
+        return maxSizes;
+    }
+
+}
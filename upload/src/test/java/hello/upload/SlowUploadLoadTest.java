@@ -0,0 +1,170 @@
+package hello.upload;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 클라이언트 업로드 동시 처리량 비교 (플랫폼 스레드 풀 vs 가상 스레드)
+ * - 기본 test 에서는 제외되고 ./gradlew loadTest 로 실행한다
+ * - 각 클라이언트는 멀티파트 본문을 작은 조각으로 나눠 천천히 보내므로 요청 처리 스레드가 I/O 에 묶인다
+ * - 소요 시간과 힙 사용량 변화는 출력만 한다 (호스트 부하, GC 시점에 따라 달라지므로 검증하지 않음)
+ * - 검증은 요청을 처리한 Tomcat 플랫폼 스레드(exec) 수로 한다: 플랫폼 모드는 풀 스레드가 처리하고, 가상 스레드 모드는 하나도 없다
+ * - 클라이언트는 플랫폼 스레드로 돌린다 (가상 스레드로 돌리면 서버와 같은 캐리어 스레드를 나눠 써서 비교가 섞인다)
+ */
+@Tag("load")
+class SlowUploadLoadTest {
+
+    static final int CLIENTS = 600;
+    static final int CHUNKS = 10;
+    static final long CHUNK_INTERVAL_MS = 200;
+    static final String BOUNDARY = "----load-test-boundary";
+
+    @TempDir
+    Path fileDir;
+
+    @Test
+    void compareThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertThat(platform.execThreads()).isPositive();
+        //가상 스레드 모드에서는 요청 처리 스레드가 모두 가상 스레드다
+        assertThat(virtual.execThreads()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(UploadApplication.class)
+                .run("--server.port=0",
+                        "--file.dir=" + fileDir.toAbsolutePath() + "/",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--logging.level.hello.upload=warn");
+
+        try {
+            int port = context.getWebServer().getPort();
+            System.gc();
+            long heapBefore = usedHeap();
+            int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+            int peakThreads;
+            int execThreads;
+            long peakHeap;
+
+            long start = System.nanoTime();
+            List<Future<Boolean>> results = new ArrayList<>();
+            try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+                for (int i = 0; i < CLIENTS; i++) {
+                    int id = i;
+                    results.add(clients.submit(() -> slowUpload(port, id)));
+                }
+                //모든 클라이언트가 연결된 뒤 본문 전송 중간 시점의 메모리, 스레드 수 측정
+                //ThreadMXBean 은 플랫폼 스레드만 센다 (가상 스레드 제외), 클라이언트 스레드 CLIENTS 개를 포함한다
+                Thread.sleep(CHUNKS * CHUNK_INTERVAL_MS / 2);
+                peakThreads = ManagementFactory.getThreadMXBean().getThreadCount() - CLIENTS;
+                execThreads = execThreads();
+                peakHeap = usedHeap();
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+
+            return new Result(virtualThreads ? "virtual" : "platform", succeeded, elapsedMs,
+                    peakThreads - threadsBefore, execThreads, peakHeap - heapBefore);
+        } finally {
+            context.close();
+        }
+    }
+
+    private boolean slowUpload(int port, int id) {
+        byte[] body = multipartBody(id);
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(60_000);
+            OutputStream out = socket.getOutputStream();
+            String head = "POST /spring/upload HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Content-Type: multipart/form-data; boundary=" + BOUNDARY + "\r\n"
+                    + "Content-Length: " + body.length + "\r\n"
+                    + "Connection: close\r\n\r\n";
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            int chunkSize = (body.length + CHUNKS - 1) / CHUNKS;
+            for (int offset = 0; offset < body.length; offset += chunkSize) {
+                out.write(body, offset, Math.min(chunkSize, body.length - offset));
+                out.flush();
+                Thread.sleep(CHUNK_INTERVAL_MS);
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String statusLine = reader.readLine();
+            return statusLine != null && statusLine.startsWith("HTTP/1.1 200");
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private byte[] multipartBody(int id) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"itemName\"\r\n\r\n"
+                + "item" + id + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load-" + id + ".bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n";
+        body.writeBytes(head.getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(new byte[16 * 1024]);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return body.toByteArray();
+    }
+
+    //Tomcat 요청 처리 스레드 이름은 http-nio-{port}-exec-{n} (가상 스레드는 getAllStackTraces 에 나오지 않는다)
+    private int execThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    //usedHeapDelta: GC 를 제어하지 않은 전체 힙 사용량 변화 (연결당 메모리 측정값이 아니다, 참고용)
+    record Result(String mode, int succeeded, long elapsedMs, int extraThreads, int execThreads, long usedHeapDelta) {
+        @Override
+        public String toString() {
+            return String.format("[%s] succeeded=%d/%d elapsed=%dms extraPlatformThreads=%d execThreads=%d usedHeapDelta=%dKB",
+                    mode, succeeded, CLIENTS, elapsedMs, extraThreads, execThreads, usedHeapDelta / 1024);
+        }
+    }
+
+}
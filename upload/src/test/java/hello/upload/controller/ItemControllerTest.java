@@ -0,0 +1,195 @@
+package hello.upload.controller;
+
+import hello.upload.domain.Item;
+import hello.upload.domain.ItemRepository;
+import hello.upload.domain.UploadFile;
+import hello.upload.file.FileStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "file.rebalance-on-startup=false")
+@AutoConfigureMockMvc
+class ItemControllerTest {
+
+    @TempDir
+    static Path fileDir;
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    FileStore fileStore;
+    @Autowired
+    ItemRepository itemRepository;
+
+    @DynamicPropertySource
+    static void fileDir(DynamicPropertyRegistry registry) {
+        registry.add("file.dir", () -> fileDir.toAbsolutePath() + "/");
+    }
+
+    @Test
+    void imageIsImmutableWithContentHashETag() throws Exception {
+        UploadFile image = store("image.png", "png-content");
+
+        mockMvc.perform(get("/images/{fileName}", image.getStoreFileName()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + image.getContentHash() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, image.getLastModified() / 1000 * 1000))
+                .andExpect(content().string("png-content"));
+    }
+
+    @Test
+    void attachIsRevalidated() throws Exception {
+        Item item = saveItem(store("manual.pdf", "pdf-content"));
+
+        mockMvc.perform(get("/attach/{itemId}", item.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + item.getAttachFile().getContentHash() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"manual.pdf\""))
+                .andExpect(content().string("pdf-content"));
+    }
+
+    @Test
+    void notModifiedWithoutReadingFile() throws Exception {
+        UploadFile image = store("image.png", "png-content");
+        Item item = saveItem(store("manual.pdf", "pdf-content"));
+        String imageETag = "\"" + image.getContentHash() + "\"";
+        String attachETag = "\"" + item.getAttachFile().getContentHash() + "\"";
+
+        //파일을 지워도 304 가 나오면 파일을 열지 않은 것이다
+        Files.delete(Path.of(fileStore.getFullPath(image.getStoreFileName())));
+        Files.delete(Path.of(fileStore.getFullPath(item.getAttachFile().getStoreFileName())));
+
+        mockMvc.perform(get("/images/{fileName}", image.getStoreFileName()).header(HttpHeaders.IF_NONE_MATCH, imageETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/attach/{itemId}", item.getId()).header(HttpHeaders.IF_NONE_MATCH, attachETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/images/{fileName}", image.getStoreFileName())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(image.getLastModified())))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void modifiedSince() throws Exception {
+        UploadFile image = store("image.png", "png-content");
+
+        mockMvc.perform(get("/images/{fileName}", image.getStoreFileName())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(image.getLastModified() - 60_000)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("png-content"));
+        //If-None-Match 가 있으면 If-Modified-Since 보다 우선한다
+        mockMvc.perform(get("/images/{fileName}", image.getStoreFileName())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(image.getLastModified())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void missingMetadataFallsBackToFileTime() throws Exception {
+        //재시작 후처럼 FileStore 에 메타데이터가 없는 파일
+        String storeFileName = "restored.png";
+        Path path = Path.of(fileStore.getFullPath(storeFileName));
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "restored", StandardCharsets.UTF_8);
+        long modified = Instant.parse("2024-01-02T03:04:05Z").toEpochMilli();
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modified));
+        Item item = saveItem(new UploadFile("restored.png", storeFileName));
+
+        for (String url : new String[]{"/images/" + storeFileName, "/attach/" + item.getId()}) {
+            MvcResult result = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, modified))
+                    .andReturn();
+            assertThat(result.getResponse().getContentAsString()).isEqualTo("restored");
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(modified)))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    @Test
+    void unknownItem() throws Exception {
+        mockMvc.perform(get("/attach/{itemId}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/items/{itemId}/files", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void downloadAllFiles() throws Exception {
+        Item item = saveItem(store("manual.pdf", "pdf-content"));
+        item.setImageFiles(List.of(store("image.png", "png-content")));
+
+        //StreamingResponseBody 는 비동기로 쓰므로 asyncDispatch 로 본문을 받는다
+        MvcResult started = mockMvc.perform(get("/items/{itemId}/files", item.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/zip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"item-" + item.getId() + ".zip\""))
+                .andReturn();
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        assertThat(names).containsExactly("manual.pdf", "image.png");
+    }
+
+    private UploadFile store(String fileName, String content) throws IOException {
+        return fileStore.storeFile(new MockMultipartFile("file", fileName, null, content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Item saveItem(UploadFile attachFile) {
+        Item item = new Item();
+        item.setItemName("item");
+        item.setAttachFile(attachFile);
+        return itemRepository.save(item);
+    }
+
+    private static String httpDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+    }
+
+}
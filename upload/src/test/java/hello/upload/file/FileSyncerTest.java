@@ -0,0 +1,71 @@
+package hello.upload.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class FileSyncerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void groupCommitBatchesConcurrentRequests() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.GROUP_COMMIT, Duration.ofMillis(200));
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                Path file = dir.resolve("file-" + i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    writeAndSync(fileSyncer, file);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            fileSyncer.shutdown();
+        }
+
+        assertThat(fileSyncer.getGroupCommitCount()).isBetween(1L, (long) requests - 1);
+    }
+
+    @Test
+    void syncAfterShutdownDoesNotHang() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.GROUP_COMMIT, Duration.ofMillis(2));
+        fileSyncer.shutdown();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> writeAndSync(fileSyncer, dir.resolve("late")));
+        assertThat(fileSyncer.getGroupCommitCount()).isZero();
+    }
+
+    private void writeAndSync(FileSyncer fileSyncer, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+            fileSyncer.sync(channel, file.getParent());
+        }
+    }
+
+}
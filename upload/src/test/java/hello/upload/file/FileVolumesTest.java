@@ -0,0 +1,63 @@
+package hello.upload.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileVolumesTest {
+
+    static final int FILES = 3000;
+
+    @Test
+    void placementIsDeterministic() {
+        FileVolumes volumes = new FileVolumes(List.of("/data/v1", "/data/v2", "/data/v3"));
+        FileVolumes sameVolumes = new FileVolumes(List.of("/data/v1", "/data/v2", "/data/v3"));
+
+        for (int i = 0; i < FILES; i++) {
+            String name = UUID.randomUUID() + ".png";
+            assertThat(sameVolumes.ownerOf(name)).isEqualTo(volumes.ownerOf(name));
+        }
+    }
+
+    @Test
+    void addingVolumeMovesFilesOnlyToNewVolume() {
+        FileVolumes before = new FileVolumes(List.of("/data/v1", "/data/v2"));
+        FileVolumes after = new FileVolumes(List.of("/data/v1", "/data/v2", "/data/v3"));
+        Path added = Path.of("/data/v3").toAbsolutePath().normalize();
+
+        int moved = 0;
+        for (int i = 0; i < FILES; i++) {
+            String name = UUID.randomUUID() + ".png";
+            Path oldOwner = before.ownerOf(name);
+            Path newOwner = after.ownerOf(name);
+            if (!newOwner.equals(oldOwner)) {
+                //기존 볼륨끼리는 파일이 오가지 않는다
+                assertThat(newOwner).isEqualTo(added);
+                moved++;
+            }
+        }
+
+        //새 볼륨이 대략 1/3 을 가져간다
+        assertThat(moved).isBetween(FILES / 5, FILES / 2);
+    }
+
+    @Test
+    void removingVolumeMovesOnlyItsFiles() {
+        FileVolumes before = new FileVolumes(List.of("/data/v1", "/data/v2", "/data/v3"));
+        FileVolumes after = new FileVolumes(List.of("/data/v1", "/data/v3"));
+        Path removed = Path.of("/data/v2").toAbsolutePath().normalize();
+
+        for (int i = 0; i < FILES; i++) {
+            String name = UUID.randomUUID() + ".png";
+            Path oldOwner = before.ownerOf(name);
+            if (!oldOwner.equals(removed)) {
+                assertThat(after.ownerOf(name)).isEqualTo(oldOwner);
+            }
+        }
+    }
+
+}
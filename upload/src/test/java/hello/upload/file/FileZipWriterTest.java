@@ -0,0 +1,127 @@
+package hello.upload.file;
+
+import hello.upload.domain.UploadFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileZipWriterTest {
+
+    @TempDir
+    Path fileDir;
+
+    FileStore fileStore;
+    FileZipWriter fileZipWriter;
+
+    @BeforeEach
+    void setUp() {
+        fileStore = new FileStore(new FileVolumes(List.of(fileDir.toString())), new FileSyncer(DurabilityMode.NONE, Duration.ZERO));
+        fileZipWriter = new FileZipWriter(fileStore);
+    }
+
+    @Test
+    void entryNames() throws IOException {
+        List<UploadFile> uploadFiles = List.of(
+                store("photo.png", "first"),
+                store("photo.png", "second"),
+                store("photo.png", "third"),
+                store("../../etc/report.pdf", "report"),
+                store("README", "readme"),
+                store("README", "readme2"));
+
+        List<Entry> entries = read(write(uploadFiles));
+
+        //경로는 제거하고, 같은 이름은 (n) 을 붙인다 (확장자가 없으면 끝에)
+        assertThat(entries).extracting(Entry::name)
+                .containsExactly("photo.png", "photo(1).png", "photo(2).png", "report.pdf", "README", "README(1)");
+        assertThat(entries).extracting(Entry::content)
+                .containsExactly("first", "second", "third", "report", "readme", "readme2");
+    }
+
+    @Test
+    void storedWhenCompressedFormatAndCrcKnown() throws IOException {
+        UploadFile image = store("image.png", "png-content");
+
+        Entry entry = read(write(List.of(image))).get(0);
+
+        assertThat(entry.method()).isEqualTo(ZipEntry.STORED);
+        assertThat(entry.size()).isEqualTo(image.getSize()).isEqualTo("png-content".length());
+        assertThat(entry.compressedSize()).isEqualTo(image.getSize());
+        assertThat(entry.crc()).isEqualTo(image.getCrc32()).isEqualTo(crc("png-content"));
+        //ZIP(DOS) 시각은 2초 단위
+        assertThat(entry.time()).isBetween(image.getLastModified() - 2000, image.getLastModified());
+        assertThat(entry.content()).isEqualTo("png-content");
+    }
+
+    @Test
+    void deflatedOtherwise() throws IOException {
+        //압축되지 않는 포맷
+        UploadFile text = store("notes.txt", "notes ".repeat(100));
+        //저장 시점 메타데이터가 없는 파일 (재시작 후) 은 이미지라도 CRC 를 모르므로 DEFLATED
+        Path restored = fileVolumes().placementOf("restored.png");
+        Files.writeString(restored, "restored", StandardCharsets.UTF_8);
+        UploadFile withoutHash = new UploadFile("restored.png", "restored.png");
+
+        List<Entry> entries = read(write(List.of(text, withoutHash)));
+
+        assertThat(entries).extracting(Entry::method).containsOnly(ZipEntry.DEFLATED);
+        assertThat(entries.get(0).content()).isEqualTo("notes ".repeat(100));
+        assertThat(entries.get(0).crc()).isEqualTo(text.getCrc32());
+        assertThat(entries.get(1).content()).isEqualTo("restored");
+        assertThat(entries.get(1).crc()).isEqualTo(crc("restored"));
+    }
+
+    private FileVolumes fileVolumes() {
+        return new FileVolumes(List.of(fileDir.toString()));
+    }
+
+    private UploadFile store(String fileName, String content) throws IOException {
+        return fileStore.storeFile(new MockMultipartFile("file", fileName, null, content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private byte[] write(List<UploadFile> uploadFiles) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        fileZipWriter.write(uploadFiles, out);
+        return out.toByteArray();
+    }
+
+    static List<Entry> read(byte[] zip) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                //DEFLATED 엔트리의 크기, CRC 는 본문 뒤 데이터 디스크립터에 있으므로 본문을 읽은 뒤 조회한다
+                String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                entries.add(new Entry(entry.getName(), entry.getMethod(), entry.getSize(), entry.getCompressedSize(),
+                        entry.getCrc(), entry.getTime(), content));
+            }
+        }
+        return entries;
+    }
+
+    private static long crc(String content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    record Entry(String name, int method, long size, long compressedSize, long crc, long time, String content) {
+    }
+
+}
@@ -0,0 +1,88 @@
+package hello.upload.file;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VolumeRebalancerTest {
+
+    @TempDir
+    Path root;
+
+    @ParameterizedTest
+    @EnumSource(value = DurabilityMode.class, names = {"NONE", "PER_FILE"})
+    void movesFilesToOwnerVolume(DurabilityMode mode) throws Exception {
+        Path first = Files.createDirectories(root.resolve("v1"));
+        Path second = Files.createDirectories(root.resolve("v2"));
+
+        //볼륨이 하나일 때 저장된 파일들
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String name = "file-" + i + ".png";
+            Files.writeString(first.resolve(name), name);
+            names.add(name);
+        }
+
+        FileVolumes fileVolumes = new FileVolumes(List.of(first.toString(), second.toString()));
+        FileSyncer fileSyncer = new FileSyncer(mode, Duration.ZERO);
+        new VolumeRebalancer(fileVolumes, fileSyncer).rebalance();
+
+        int movedToSecond = 0;
+        for (String name : names) {
+            Path owner = fileVolumes.ownerOf(name);
+            assertThat(owner.resolve(name)).hasContent(name);
+            Path other = owner.equals(first) ? second : first;
+            assertThat(other.resolve(name)).doesNotExist();
+            if (owner.equals(second)) {
+                movedToSecond++;
+            }
+        }
+        assertThat(movedToSecond).isPositive();
+        assertThat(listNames(first)).noneMatch(name -> name.startsWith(".rebalance-"));
+        assertThat(listNames(second)).noneMatch(name -> name.startsWith(".rebalance-"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DurabilityMode.class, names = {"NONE", "PER_FILE"})
+    void keepsSourceWhenTargetExists(DurabilityMode mode) throws Exception {
+        Path first = Files.createDirectories(root.resolve("v1"));
+        Path second = Files.createDirectories(root.resolve("v2"));
+        FileVolumes fileVolumes = new FileVolumes(List.of(first.toString(), second.toString()));
+
+        String name = findOwnedBy(fileVolumes, second);
+        Files.writeString(first.resolve(name), "source", StandardCharsets.UTF_8);
+        Files.writeString(second.resolve(name), "target", StandardCharsets.UTF_8);
+
+        new VolumeRebalancer(fileVolumes, new FileSyncer(mode, Duration.ZERO)).rebalance();
+
+        assertThat(first.resolve(name)).hasContent("source");
+        assertThat(second.resolve(name)).hasContent("target");
+    }
+
+    private String findOwnedBy(FileVolumes fileVolumes, Path volume) {
+        for (int i = 0; ; i++) {
+            String name = "file-" + i + ".png";
+            if (fileVolumes.ownerOf(name).equals(volume)) {
+                return name;
+            }
+        }
+    }
+
+    private List<String> listNames(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+
+}
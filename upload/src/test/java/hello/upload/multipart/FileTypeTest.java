@@ -0,0 +1,46 @@
+package hello.upload.multipart;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileTypeTest {
+
+    @Test
+    void detectMagicNumbers() {
+        assertThat(detect(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13})).isEqualTo(FileType.PNG);
+        assertThat(detect(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0})).isEqualTo(FileType.JPEG);
+        assertThat(detect(ascii("GIF87a"))).isEqualTo(FileType.GIF);
+        assertThat(detect(ascii("GIF89a"))).isEqualTo(FileType.GIF);
+        assertThat(detect(ascii("RIFF\0\0\0\0WEBP"))).isEqualTo(FileType.WEBP);
+        assertThat(detect(ascii("%PDF-1.7"))).isEqualTo(FileType.PDF);
+        assertThat(detect(new byte[]{'P', 'K', 0x03, 0x04, 0x14, 0})).isEqualTo(FileType.ZIP);
+    }
+
+    @Test
+    void detectUnknown() {
+        assertThat(detect(ascii("hello world!"))).isNull();
+        //WEBP 가 아닌 RIFF (예: WAV)
+        assertThat(detect(ascii("RIFF\0\0\0\0WAVE"))).isNull();
+        //빈 ZIP (PK 05 06) 은 허용하지 않는다
+        assertThat(detect(new byte[]{'P', 'K', 0x05, 0x06})).isNull();
+    }
+
+    @Test
+    void detectTruncatedHead() {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        assertThat(FileType.detect(png, 7)).isNull();
+        assertThat(FileType.detect(ascii("RIFF\0\0\0\0WEB"), 11)).isNull();
+    }
+
+    private static FileType detect(byte[] head) {
+        return FileType.detect(head, head.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+}
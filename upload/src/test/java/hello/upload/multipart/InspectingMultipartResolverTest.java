@@ -0,0 +1,167 @@
+package hello.upload.multipart;
+
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InspectingMultipartResolverTest {
+
+    static final String BOUNDARY = "----inspection-test-boundary";
+    static final byte[] PNG_HEAD = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13};
+    static final byte[] PDF_HEAD = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+    static final long MAX_SIZE = 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void acceptAllowedType() throws IOException {
+        InspectingMultipartResolver resolver = resolver(EnumSet.of(FileType.PNG));
+        CountingRequest request = request("image.png", content(PNG_HEAD, 100));
+
+        MultipartHttpServletRequest multipartRequest = resolver.resolveMultipart(request);
+        MultipartFile file = multipartRequest.getFile("file");
+
+        assertThat(file).isInstanceOf(InspectedMultipartFile.class);
+        assertThat(file.getSize()).isEqualTo(100);
+        assertThat(file.getContentType()).isEqualTo("image/png");
+        assertThat(multipartRequest.getParameter("itemName")).isEqualTo("item");
+
+        resolver.cleanupMultipart(multipartRequest);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void rejectMismatchedExtension() throws IOException {
+        //확장자는 png 지만 실제 내용은 PDF
+        InspectingMultipartResolver resolver = resolver(EnumSet.of(FileType.PNG));
+        CountingRequest request = request("image.png", content(PDF_HEAD, 100));
+
+        assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                .isInstanceOf(UnsupportedUploadTypeException.class);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void abortOversizedFileEarly() throws IOException {
+        InspectingMultipartResolver resolver = resolver(EnumSet.of(FileType.PNG));
+        byte[] body = body("image.png", content(PNG_HEAD, 4 * 1024 * 1024));
+        CountingRequest request = new CountingRequest(body);
+
+        assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                .isInstanceOf(MaxUploadSizeExceededException.class);
+        //제한을 넘은 시점에서 중단하므로 본문 대부분은 읽지 않는다
+        assertThat(request.bytesRead()).isLessThan(64 * 1024);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    private InspectingMultipartResolver resolver(Set<FileType> allowed) {
+        Map<FileType, Long> maxSizes = new EnumMap<>(FileType.class);
+        for (FileType fileType : FileType.values()) {
+            maxSizes.put(fileType, MAX_SIZE);
+        }
+        return new InspectingMultipartResolver(List.of("/items/**"), allowed, maxSizes, -1, tempDir);
+    }
+
+    private CountingRequest request(String fileName, byte[] content) throws IOException {
+        return new CountingRequest(body(fileName, content));
+    }
+
+    private static byte[] content(byte[] head, int size) {
+        byte[] content = new byte[size];
+        System.arraycopy(head, 0, content, 0, head.length);
+        return content;
+    }
+
+    private static byte[] body(String fileName, byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"itemName\"\r\n\r\n"
+                + "item\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(content);
+        out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(tempDir)) {
+            return stream.toList();
+        }
+    }
+
+    //컨테이너에서 읽어 간 본문 바이트 수를 센다
+    static class CountingRequest extends MockHttpServletRequest {
+
+        private final CountingInputStream inputStream;
+
+        CountingRequest(byte[] body) {
+            super("POST", "/items/new");
+            setContentType("multipart/form-data; boundary=" + BOUNDARY);
+            setContent(body);
+            this.inputStream = new CountingInputStream(new ByteArrayInputStream(body));
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new DelegatingServletInputStream(inputStream);
+        }
+
+        long bytesRead() {
+            return inputStream.count;
+        }
+    }
+
+    static class CountingInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private long count;
+
+        CountingInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = delegate.read();
+            if (read != -1) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+}
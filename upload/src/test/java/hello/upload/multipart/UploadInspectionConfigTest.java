@@ -0,0 +1,54 @@
+package hello.upload.multipart;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadInspectionConfigTest {
+
+    @Test
+    void defaultsAreCappedByMaxFileSize() {
+        MultipartProperties multipartProperties = new MultipartProperties();
+        multipartProperties.setMaxFileSize(DataSize.ofMegabytes(10));
+
+        Map<FileType, Long> maxSizes = UploadInspectionConfig.maxSizes(multipartProperties, new MockEnvironment());
+
+        assertThat(maxSizes.get(FileType.PNG)).isEqualTo(DataSize.ofMegabytes(10).toBytes());
+        assertThat(maxSizes.get(FileType.PDF)).isEqualTo(DataSize.ofMegabytes(10).toBytes());
+        assertThat(maxSizes.get(FileType.ZIP)).isEqualTo(DataSize.ofMegabytes(10).toBytes());
+    }
+
+    @Test
+    void explicitSizeOverridesMaxFileSize() {
+        MultipartProperties multipartProperties = new MultipartProperties();
+        multipartProperties.setMaxFileSize(DataSize.ofMegabytes(10));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("file.inspection.max-size.zip", "50MB")
+                .withProperty("file.inspection.max-size.png", "1MB");
+        environment.setConversionService(new ApplicationConversionService());
+
+        Map<FileType, Long> maxSizes = UploadInspectionConfig.maxSizes(multipartProperties, environment);
+
+        assertThat(maxSizes.get(FileType.ZIP)).isEqualTo(DataSize.ofMegabytes(50).toBytes());
+        assertThat(maxSizes.get(FileType.PNG)).isEqualTo(DataSize.ofMegabytes(1).toBytes());
+    }
+
+    @Test
+    void unlimitedMaxFileSizeKeepsTypeDefaults() {
+        MultipartProperties multipartProperties = new MultipartProperties();
+        multipartProperties.setMaxFileSize(DataSize.ofBytes(-1));
+
+        Map<FileType, Long> maxSizes = UploadInspectionConfig.maxSizes(multipartProperties, new MockEnvironment());
+
+        for (FileType fileType : FileType.values()) {
+            assertThat(maxSizes.get(fileType)).isEqualTo(fileType.getDefaultMaxSize().toBytes());
+        }
+    }
+
+}